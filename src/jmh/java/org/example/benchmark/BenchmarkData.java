@@ -0,0 +1,33 @@
+package org.example.benchmark;
+
+import org.example.generator.RosterGenerator;
+import org.example.model.Player;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Детерминированные наборы данных для бенчмарков
+final class BenchmarkData {
+    private static final RosterGenerator GENERATOR = RosterGenerator.builder()
+            .seed(20231117L)
+            .teams(500)
+            .agencies(50)
+            .nationalities(30)
+            .emptyAgencyRatio(0.05)
+            .build();
+
+    private BenchmarkData() {
+    }
+
+    static List<Player> players(int size) {
+        return GENERATOR.players(size).toList();
+    }
+
+    static Path csv(int size) throws IOException {
+        Path file = Files.createTempFile("players-" + size + "-", ".csv");
+        GENERATOR.write(file, size);
+        return file;
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.benchmark;
+
+import org.example.chart.ChartMapper;
+import org.example.model.Player;
+import org.jfree.data.general.PieDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ChartMapperBenchmark {
+    @Param({"10000", "1000000", "10000000"})
+    int size;
+
+    private List<Player> players;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        players = BenchmarkData.players(size);
+    }
+
+    @Benchmark
+    public PieDataset mapNationalityDataToChart() {
+        return ChartMapper.mapNationalityDataToChart(players);
+    }
+}
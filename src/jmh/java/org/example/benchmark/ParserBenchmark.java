@@ -0,0 +1,76 @@
+package org.example.benchmark;
+
+import org.example.model.Player;
+import org.example.parser.CsvParser;
+import org.example.parser.ParseOptions;
+import org.example.parser.PlayerField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ParserBenchmark {
+    @Param({"10000", "1000000", "10000000"})
+    int size;
+
+    private static final ParseOptions NATIONALITY_ONLY = ParseOptions.strict().project(PlayerField.NATIONALITY).build();
+
+    private String path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = BenchmarkData.csv(size).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Path.of(path));
+    }
+
+    @Benchmark
+    public List<Player> parseCsvToList() throws IOException {
+        return CsvParser.parseCsvToList(path);
+    }
+
+    @Benchmark
+    public void streamCsv(Blackhole blackhole) throws IOException {
+        try (var players = CsvParser.streamCsv(path)) {
+            players.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public List<Player> parseCsvParallel() throws IOException {
+        return CsvParser.parseCsvParallel(path);
+    }
+
+    // Только колонка Nationality, как нужно ChartMapper
+    @Benchmark
+    public void streamCsvNationalityOnly(Blackhole blackhole) throws IOException {
+        try (var players = CsvParser.streamCsv(path, NATIONALITY_ONLY)) {
+            players.forEach(blackhole::consume);
+        }
+    }
+}
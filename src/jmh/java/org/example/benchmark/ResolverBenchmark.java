@@ -0,0 +1,109 @@
+package org.example.benchmark;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.resolver.ColumnarResolver;
+import org.example.resolver.IResolver;
+import org.example.resolver.IncrementalResolver;
+import org.example.resolver.IndexedResolver;
+import org.example.resolver.OffHeapResolver;
+import org.example.resolver.ParallelStreams;
+import org.example.resolver.QueryResolver;
+import org.example.resolver.ResolverReport;
+import org.example.resolver.ShardedResolver;
+import org.example.resolver.Streams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Каждый запрос IResolver на разных движках: -p engine=streams,columnar
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ResolverBenchmark {
+    @Param({"10000", "1000000", "10000000"})
+    int size;
+
+    @Param({"streams", "parallel", "columnar", "incremental", "indexed", "query", "offheap", "sharded"})
+    String engine;
+
+    private IResolver resolver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Player> players = BenchmarkData.players(size);
+        resolver = switch (engine) {
+            case "streams" -> new Streams(players);
+            case "parallel" -> new ParallelStreams(players);
+            case "columnar" -> new ColumnarResolver(players);
+            case "incremental" -> new IncrementalResolver(players);
+            case "indexed" -> new IndexedResolver(players);
+            case "query" -> new QueryResolver(players);
+            case "offheap" -> new OffHeapResolver(players);
+            case "sharded" -> new ShardedResolver(players, Runtime.getRuntime().availableProcessors());
+            default -> throw new IllegalArgumentException("Unknown engine " + engine);
+        };
+    }
+
+    @Benchmark
+    public int getCountWithoutAgency() {
+        return resolver.getCountWithoutAgency();
+    }
+
+    @Benchmark
+    public int getMaxDefenderGoalsCount() {
+        return resolver.getMaxDefenderGoalsCount();
+    }
+
+    @Benchmark
+    public String getTheExpensiveGermanPlayerPosition() {
+        return resolver.getTheExpensiveGermanPlayerPosition();
+    }
+
+    @Benchmark
+    public Map<Position, List<String>> getPlayersByPosition() {
+        return resolver.getPlayersByPosition();
+    }
+
+    @Benchmark
+    public Set<String> getTeams() {
+        return resolver.getTeams();
+    }
+
+    @Benchmark
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        return resolver.getTop5TeamsByGoalsCount();
+    }
+
+    @Benchmark
+    public String getAgencyWithMinPlayersCount() {
+        return resolver.getAgencyWithMinPlayersCount();
+    }
+
+    @Benchmark
+    public String getTheRudestTeam() {
+        return resolver.getTheRudestTeam();
+    }
+
+    @Benchmark
+    public ResolverReport computeAll() {
+        return resolver.computeAll();
+    }
+}
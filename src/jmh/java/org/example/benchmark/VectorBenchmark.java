@@ -0,0 +1,79 @@
+package org.example.benchmark;
+
+import org.example.kernel.ColumnKernels;
+import org.example.kernel.Kernels;
+import org.example.model.Player;
+import org.example.resolver.ColumnarResolver;
+import org.example.resolver.IResolver;
+import org.example.resolver.Streams;
+import org.example.table.PlayerTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Фильтры и агрегаты: Streams против ColumnarResolver на скалярных и векторных ядрах.
+// Ширину вектора выбирает JVM (SPECIES_PREFERRED): 256 бит на AVX2, 512 на AVX-512;
+// сравнить можно через -jvmArgsAppend -XX:UseAVX=2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "--add-modules", "jdk.incubator.vector"})
+public class VectorBenchmark {
+    @Param({"10000", "1000000", "10000000"})
+    int size;
+
+    @Param({"streams", "scalar", "vector"})
+    String engine;
+
+    private IResolver resolver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Player> players = BenchmarkData.players(size);
+        resolver = switch (engine) {
+            case "streams" -> new Streams(players);
+            case "scalar" -> columnar(players, Kernels.scalar());
+            case "vector" -> columnar(players, Kernels.vector());
+            default -> throw new IllegalArgumentException("Unknown engine " + engine);
+        };
+    }
+
+    private static IResolver columnar(List<Player> players, ColumnKernels kernels) {
+        return new ColumnarResolver(PlayerTable.of(players), kernels);
+    }
+
+    @Benchmark
+    public int getCountWithoutAgency() {
+        return resolver.getCountWithoutAgency();
+    }
+
+    @Benchmark
+    public int getMaxDefenderGoalsCount() {
+        return resolver.getMaxDefenderGoalsCount();
+    }
+
+    @Benchmark
+    public String getTheExpensiveGermanPlayerPosition() {
+        return resolver.getTheExpensiveGermanPlayerPosition();
+    }
+
+    @Benchmark
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        return resolver.getTop5TeamsByGoalsCount();
+    }
+}
@@ -2,16 +2,28 @@ package org.example;
 
 import org.example.chart.ChartDrawer;
 import org.example.chart.ChartMapper;
-import org.example.parser.CsvParser;
+import org.example.model.Player;
+import org.example.parser.CsvTailer;
+import org.example.parser.ParseOptions;
+import org.example.resolver.IncrementalResolver;
 import org.example.resolver.Streams;
+import org.example.table.PlayerSnapshot;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 public class Main {
     public static void main(String[] args) throws IOException {
-        var players = CsvParser.parseCsvToList("C:\\Users\\zhili\\IdeaProjects\\Para1711\\fakePlayers.csv");
-        Streams streams = new Streams();
-        streams.setPlayers(players);
+        var path = Paths.get("C:\\Users\\zhili\\IdeaProjects\\Para1711\\fakePlayers.csv");
+        if (args.length > 0 && args[0].equals("--watch")) {
+            watch(args.length > 1 ? Paths.get(args[1]) : path);
+            return;
+        }
+        // При повторных запусках данные берутся из двоичного снимка без разбора CSV
+        var players = PlayerSnapshot.loadOrParse(path, Paths.get(path + ".snapshot")).toPlayers();
+        Streams streams = new Streams(players);
 //        System.out.println("Игроки без агентсва:");
 //        System.out.println(streams.getCountWithoutAgency());
 //        System.out.println("Максимальное количество голов, забитых защитников:");
@@ -33,4 +45,26 @@ public class Main {
         var chartData = ChartMapper.mapNationalityDataToChart(players);
         ChartDrawer.showPieChart(chartData, "Доля игроков по странам");
     }
+
+    // Режим слежения: строки, дописанные в конец файла, сразу попадают в агрегаты
+    private static void watch(Path path) throws IOException {
+        var resolver = new IncrementalResolver();
+        var options = ParseOptions.lenient()
+                .quarantine(row -> System.err.println("Строка " + row.lineNumber() + " пропущена: " + row.error()))
+                .build();
+        var tailer = new CsvTailer(path, options, new CsvTailer.Listener() {
+            @Override
+            public void onRows(List<Player> players) {
+                resolver.addAll(players);
+                System.out.println("Игроков: " + resolver.size()
+                        + ", топ-5 команд по голам: " + resolver.getTop5TeamsByGoalsCount());
+            }
+
+            @Override
+            public void onTruncated() {
+                resolver.setPlayers(List.of());
+            }
+        });
+        tailer.run();
+    }
 }
\ No newline at end of file
@@ -1,24 +1,40 @@
 package org.example.chart;
 
 import org.example.model.Player;
+import org.example.parser.CsvParser;
+import org.example.parser.ParseOptions;
+import org.example.parser.PlayerField;
+import org.example.table.ObjectLongMap;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.general.PieDataset;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ChartMapper {
     public static PieDataset mapNationalityDataToChart(List<Player> players) {
+        return mapNationalityDataToChart(players.stream());
+    }
+
+    // Из файла читается только колонка Nationality, остальные колонки не разбираются
+    public static PieDataset mapNationalityDataToChart(Path csv) throws IOException {
+        var options = ParseOptions.strict().project(PlayerField.NATIONALITY).build();
+        try (var players = CsvParser.streamCsv(csv.toString(), options)) {
+            return mapNationalityDataToChart(players);
+        }
+    }
+
+    public static PieDataset mapNationalityDataToChart(Stream<Player> players) {
         DefaultPieDataset dataset = new DefaultPieDataset();
 
-        Map<String, Long> nationalityCount = players.stream()
-                .collect(Collectors.groupingBy(
-                        player -> player.nationality() == null ? "" : player.nationality(),
-                        Collectors.counting()
-                ));
+        var nationalityCount = new ObjectLongMap<String>();
+        players.forEach(player -> nationalityCount.addTo(
+                player.nationality() == null ? "" : player.nationality(), 1));
 
         nationalityCount.forEach((nationality, count) -> {
-            dataset.setValue(nationality, count);
+            dataset.setValue(nationality, Long.valueOf(count));
         });
 
         return dataset;
@@ -0,0 +1,295 @@
+package org.example.generator;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+// Детерминированный генератор составов в формате CsvParser (12 колонок через ';').
+// Один и тот же seed даёт одни и те же строки и в файле, и в players().
+// Запись идёт через собственный байтовый буфер без промежуточных строк.
+public class RosterGenerator {
+    public static final String HEADER =
+            "Name;Team;City;Position;Nationality;Agency;Transfer cost;Participations;Goals;Assists;Yellow cards;Red cards";
+
+    private static final String[] COUNTRIES = {
+            "Germany", "Spain", "Brazil", "Argentina", "France", "Croatia", "Italy", "England", "Portugal",
+            "Netherlands", "Belgium", "Uruguay", "Colombia", "Mexico", "Japan", "Russia"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Ivan", "Sergey", "Adam", "Clint", "Manuel", "Luis", "Pedro", "Marco", "Hugo", "Leon", "Jan", "Ole"
+    };
+    private static final String[] LAST_NAMES = {
+            "Petrov", "Smith", "Neuer", "Garcia", "Silva", "Rossi", "Muller", "Dubois", "Jansen", "Novak"
+    };
+    private static final Position[] POSITIONS = Position.values();
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final long seed;
+    private final int teams;
+    private final int cities;
+    private final int agencies;
+    private final int nationalities;
+    private final double emptyAgencyRatio;
+
+    private RosterGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.teams = builder.teams;
+        this.cities = builder.cities;
+        this.agencies = builder.agencies;
+        this.nationalities = builder.nationalities;
+        this.emptyAgencyRatio = builder.emptyAgencyRatio;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private long seed = 42;
+        private int teams = 20;
+        private int cities = 20;
+        private int agencies = 30;
+        private int nationalities = 16;
+        private double emptyAgencyRatio = 0.1;
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder teams(int teams) {
+            this.teams = positive("teams", teams);
+            return this;
+        }
+
+        public Builder cities(int cities) {
+            this.cities = positive("cities", cities);
+            return this;
+        }
+
+        public Builder agencies(int agencies) {
+            this.agencies = positive("agencies", agencies);
+            return this;
+        }
+
+        public Builder nationalities(int nationalities) {
+            this.nationalities = positive("nationalities", nationalities);
+            return this;
+        }
+
+        public Builder emptyAgencyRatio(double emptyAgencyRatio) {
+            if (emptyAgencyRatio < 0 || emptyAgencyRatio > 1) {
+                throw new IllegalArgumentException("emptyAgencyRatio must be within [0, 1]: " + emptyAgencyRatio);
+            }
+            this.emptyAgencyRatio = emptyAgencyRatio;
+            return this;
+        }
+
+        private static int positive(String name, int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+
+        public RosterGenerator build() {
+            return new RosterGenerator(this);
+        }
+    }
+
+    // Значения одной строки; колонки, которых нет в Player, тоже разыгрываются,
+    // чтобы последовательность случайных чисел совпадала с записью в файл.
+    private class Row {
+        private final SplittableRandom random = new SplittableRandom(seed);
+        long index;
+        int firstName;
+        int lastName;
+        int team;
+        int city;
+        Position position;
+        int nationality;
+        int agency;
+        int transferCost;
+        int participations;
+        int goals;
+        int assists;
+        int yellowCards;
+        int redCards;
+
+        void next() {
+            index++;
+            firstName = random.nextInt(FIRST_NAMES.length);
+            lastName = random.nextInt(LAST_NAMES.length);
+            team = random.nextInt(teams);
+            city = random.nextInt(cities);
+            position = POSITIONS[random.nextInt(POSITIONS.length)];
+            nationality = random.nextInt(nationalities);
+            agency = random.nextDouble() < emptyAgencyRatio ? -1 : random.nextInt(agencies);
+            transferCost = 100_000 + random.nextInt(20_000_000);
+            participations = random.nextInt(40);
+            goals = random.nextInt(participations + 1);
+            assists = random.nextInt(participations + 1);
+            yellowCards = random.nextInt(10);
+            redCards = random.nextInt(3);
+        }
+
+        Player toPlayer() {
+            return new Player(name(), teamName(team), position, nationalityName(nationality),
+                    agency < 0 ? "" : agencyName(agency), transferCost, goals, redCards);
+        }
+
+        String name() {
+            return FIRST_NAMES[firstName] + ' ' + LAST_NAMES[lastName] + ' ' + index;
+        }
+    }
+
+    private static String teamName(int team) {
+        return "Team " + team;
+    }
+
+    private static String cityName(int city) {
+        return "City " + city;
+    }
+
+    private static String agencyName(int agency) {
+        return "Agency " + agency;
+    }
+
+    private static String nationalityName(int nationality) {
+        return nationality < COUNTRIES.length ? COUNTRIES[nationality] : "Country " + nationality;
+    }
+
+    public Stream<Player> players(long rows) {
+        var row = new Row();
+        return Stream.generate(() -> {
+            row.next();
+            return row.toPlayer();
+        }).limit(rows);
+    }
+
+    public void write(Path path, long rows) throws IOException {
+        try (var out = Files.newOutputStream(path)) {
+            write(out, rows);
+        }
+    }
+
+    public void write(OutputStream out, long rows) throws IOException {
+        byte[][] teamNames = encode(teams, RosterGenerator::teamName);
+        byte[][] cityNames = encode(cities, RosterGenerator::cityName);
+        byte[][] agencyNames = encode(agencies, RosterGenerator::agencyName);
+        byte[][] nationalityNames = encode(nationalities, RosterGenerator::nationalityName);
+        byte[][] firstNames = encode(FIRST_NAMES.length, i -> FIRST_NAMES[i]);
+        byte[][] lastNames = encode(LAST_NAMES.length, i -> LAST_NAMES[i]);
+        byte[][] positionNames = encode(POSITIONS.length, i -> POSITIONS[i].name());
+
+        var buffer = new ByteSink(out);
+        buffer.put(HEADER.getBytes(StandardCharsets.UTF_8)).put('\n');
+        var row = new Row();
+        for (long i = 0; i < rows; i++) {
+            row.next();
+            buffer.put(firstNames[row.firstName]).put(' ').put(lastNames[row.lastName]).put(' ').put(row.index).put(';')
+                    .put(teamNames[row.team]).put(';')
+                    .put(cityNames[row.city]).put(';')
+                    .put(positionNames[row.position.ordinal()]).put(';')
+                    .put(nationalityNames[row.nationality]).put(';');
+            if (row.agency >= 0) {
+                buffer.put(agencyNames[row.agency]);
+            }
+            buffer.put(';').put(row.transferCost).put(';')
+                    .put(row.participations).put(';')
+                    .put(row.goals).put(';')
+                    .put(row.assists).put(';')
+                    .put(row.yellowCards).put(';')
+                    .put(row.redCards).put('\n');
+        }
+        buffer.flush();
+    }
+
+    private interface Names {
+        String name(int index);
+    }
+
+    private static byte[][] encode(int count, Names names) {
+        byte[][] encoded = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            encoded[i] = names.name(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static class ByteSink {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] digits = new byte[20];
+        private int size;
+
+        ByteSink(OutputStream out) {
+            this.out = out;
+        }
+
+        ByteSink put(char ascii) throws IOException {
+            if (size == buffer.length) {
+                flush();
+            }
+            buffer[size++] = (byte) ascii;
+            return this;
+        }
+
+        ByteSink put(byte[] bytes) throws IOException {
+            if (size + bytes.length > buffer.length) {
+                flush();
+                if (bytes.length > buffer.length) {
+                    out.write(bytes);
+                    return this;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+            return this;
+        }
+
+        // Неотрицательные числа без промежуточной строки
+        ByteSink put(long value) throws IOException {
+            int length = 0;
+            do {
+                digits[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            if (size + length > buffer.length) {
+                flush();
+            }
+            while (length > 0) {
+                buffer[size++] = digits[--length];
+            }
+            return this;
+        }
+
+        void flush() throws IOException {
+            out.write(buffer, 0, size);
+            size = 0;
+        }
+    }
+
+    // Использование: RosterGenerator <файл> <строк> [seed] [команд] [агентств] [стран] [доля без агентства]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RosterGenerator <file> <rows> [seed] [teams] [agencies] [nationalities] [emptyAgencyRatio]");
+            System.exit(1);
+        }
+        var builder = builder();
+        if (args.length > 2) builder.seed(Long.parseLong(args[2]));
+        if (args.length > 3) builder.teams(Integer.parseInt(args[3]));
+        if (args.length > 4) builder.agencies(Integer.parseInt(args[4]));
+        if (args.length > 5) builder.nationalities(Integer.parseInt(args[5]));
+        if (args.length > 6) builder.emptyAgencyRatio(Double.parseDouble(args[6]));
+        builder.build().write(Paths.get(args[0]), Long.parseLong(args[1]));
+    }
+}
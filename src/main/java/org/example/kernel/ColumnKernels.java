@@ -0,0 +1,20 @@
+package org.example.kernel;
+
+// Ядра фильтрации и агрегации по примитивным колонкам одинаковой длины.
+// Реализации: ScalarKernels и VectorKernels (jdk.incubator.vector); выбирает Kernels.best().
+public interface ColumnKernels {
+    // Сколько значений равно a или b
+    int countEither(int[] values, int a, int b);
+
+    // Максимум values[i] среди строк с keys[i] == key или Long.MIN_VALUE, если таких строк нет
+    long maxWhere(byte[] keys, byte key, int[] values);
+
+    // Первая строка с keys[i] == key и наибольшим values[i] или -1
+    int argMaxWhere(int[] keys, int key, int[] values);
+
+    // sums[keys[i] + 1] += values[i]: ключи - id словаря, ячейка 0 - для NULL_ID (-1)
+    void sumByKey(int[] keys, int[] values, long[] sums);
+
+    // counts[keys[i] + 1]++, ячейка 0 - для NULL_ID (-1)
+    void countByKey(int[] keys, long[] counts);
+}
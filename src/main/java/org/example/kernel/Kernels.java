@@ -0,0 +1,48 @@
+package org.example.kernel;
+
+// Выбор реализации ColumnKernels: векторная, если модуль jdk.incubator.vector подключён
+// к JVM, иначе скалярная. -Dorg.example.kernels=scalar отключает векторную.
+public final class Kernels {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final ColumnKernels SCALAR = new ScalarKernels();
+    private static final ColumnKernels VECTOR = loadVector();
+    private static final ColumnKernels BEST =
+            VECTOR != null && !"scalar".equals(System.getProperty("org.example.kernels")) ? VECTOR : SCALAR;
+
+    private Kernels() {
+    }
+
+    public static ColumnKernels best() {
+        return BEST;
+    }
+
+    public static ColumnKernels scalar() {
+        return SCALAR;
+    }
+
+    public static boolean isVectorAvailable() {
+        return VECTOR != null;
+    }
+
+    public static ColumnKernels vector() {
+        if (VECTOR == null) {
+            throw new UnsupportedOperationException("Module " + VECTOR_MODULE + " is not available,"
+                    + " run with --add-modules " + VECTOR_MODULE);
+        }
+        return VECTOR;
+    }
+
+    // Через рефлексию, чтобы без модуля не загружать классы, ссылающиеся на него
+    private static ColumnKernels loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (ColumnKernels) Class.forName("org.example.kernel.VectorKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.kernel;
+
+// Обычные циклы; JIT может сам векторизовать часть из них, но без гарантий
+public class ScalarKernels implements ColumnKernels {
+    @Override
+    public int countEither(int[] values, int a, int b) {
+        return countEither(values, 0, a, b);
+    }
+
+    @Override
+    public long maxWhere(byte[] keys, byte key, int[] values) {
+        return maxWhere(keys, 0, key, values, Long.MIN_VALUE);
+    }
+
+    @Override
+    public int argMaxWhere(int[] keys, int key, int[] values) {
+        int best = -1;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key && (best < 0 || values[i] > values[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // Группировка - это разброс по случайным адресам, для SIMD без аппаратного
+    // разрешения конфликтов выгоды нет, поэтому и VectorKernels использует этот цикл
+    @Override
+    public void sumByKey(int[] keys, int[] values, long[] sums) {
+        for (int i = 0; i < keys.length; i++) {
+            sums[keys[i] + 1] += values[i];
+        }
+    }
+
+    @Override
+    public void countByKey(int[] keys, long[] counts) {
+        for (int key : keys) {
+            counts[key + 1]++;
+        }
+    }
+
+    // Хвосты для VectorKernels: те же циклы, начиная с from
+    static int countEither(int[] values, int from, int a, int b) {
+        int count = 0;
+        for (int i = from; i < values.length; i++) {
+            if (values[i] == a || values[i] == b) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static long maxWhere(byte[] keys, int from, byte key, int[] values, long max) {
+        for (int i = from; i < keys.length; i++) {
+            if (keys[i] == key && values[i] > max) {
+                max = values[i];
+            }
+        }
+        return max;
+    }
+}
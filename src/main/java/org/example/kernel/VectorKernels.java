@@ -0,0 +1,90 @@
+package org.example.kernel;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Ядра на Vector API. Класс загружается только через Kernels, когда модуль
+// jdk.incubator.vector подключён (--add-modules jdk.incubator.vector).
+final class VectorKernels extends ScalarKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    // Сколько int-векторов покрывает один байтовый вектор
+    private static final int PARTS = BYTES.length() / INTS.length();
+
+    @Override
+    public int countEither(int[] values, int a, int b) {
+        int count = 0;
+        int i = 0;
+        int bound = INTS.loopBound(values.length);
+        for (; i < bound; i += INTS.length()) {
+            var vector = IntVector.fromArray(INTS, values, i);
+            count += vector.compare(VectorOperators.EQ, a).or(vector.compare(VectorOperators.EQ, b)).trueCount();
+        }
+        return count + countEither(values, i, a, b);
+    }
+
+    @Override
+    public long maxWhere(byte[] keys, byte key, int[] values) {
+        var max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        boolean found = false;
+        int i = 0;
+        int bound = BYTES.loopBound(keys.length);
+        for (; i < bound; i += BYTES.length()) {
+            var keyBytes = ByteVector.fromArray(BYTES, keys, i);
+            if (!keyBytes.compare(VectorOperators.EQ, key).anyTrue()) {
+                continue;
+            }
+            found = true;
+            for (int part = 0; part < PARTS; part++) {
+                var keyInts = (IntVector) keyBytes.convertShape(VectorOperators.B2I, INTS, part);
+                VectorMask<Integer> matches = keyInts.compare(VectorOperators.EQ, key);
+                var vector = IntVector.fromArray(INTS, values, i + part * INTS.length());
+                max = max.blend(max.max(vector), matches);
+            }
+        }
+        long result = found ? max.reduceLanes(VectorOperators.MAX) : Long.MIN_VALUE;
+        return maxWhere(keys, i, key, values, result);
+    }
+
+    @Override
+    public int argMaxWhere(int[] keys, int key, int[] values) {
+        // Первый проход - максимум, второй - первая строка с этим максимумом
+        var max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        boolean found = false;
+        int i = 0;
+        int bound = INTS.loopBound(keys.length);
+        for (; i < bound; i += INTS.length()) {
+            var matches = IntVector.fromArray(INTS, keys, i).compare(VectorOperators.EQ, key);
+            if (matches.anyTrue()) {
+                found = true;
+                max = max.blend(max.max(IntVector.fromArray(INTS, values, i)), matches);
+            }
+        }
+        long best = found ? max.reduceLanes(VectorOperators.MAX) : Long.MIN_VALUE;
+        for (int tail = i; tail < keys.length; tail++) {
+            if (keys[tail] == key && values[tail] > best) {
+                best = values[tail];
+            }
+        }
+        if (best == Long.MIN_VALUE) {
+            return -1;
+        }
+        int target = (int) best;
+        for (i = 0; i < bound; i += INTS.length()) {
+            var hits = IntVector.fromArray(INTS, keys, i).compare(VectorOperators.EQ, key)
+                    .and(IntVector.fromArray(INTS, values, i).compare(VectorOperators.EQ, target));
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < keys.length; i++) {
+            if (keys[i] == key && values[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
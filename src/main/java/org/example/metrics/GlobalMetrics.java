@@ -0,0 +1,30 @@
+package org.example.metrics;
+
+// Текущая глобальная реализация Metrics; JmxMetrics создаётся только при первом обращении
+final class GlobalMetrics {
+    private static volatile Metrics metrics;
+
+    private GlobalMetrics() {
+    }
+
+    static Metrics get() {
+        Metrics current = metrics;
+        if (current == null) {
+            synchronized (GlobalMetrics.class) {
+                current = metrics;
+                if (current == null) {
+                    current = JmxMetrics.platform();
+                    metrics = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    static void set(Metrics value) {
+        if (value == null) {
+            throw new NullPointerException("metrics");
+        }
+        metrics = value;
+    }
+}
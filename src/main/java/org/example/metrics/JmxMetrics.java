@@ -0,0 +1,80 @@
+package org.example.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Реализация Metrics по умолчанию: счётчики в памяти процесса, опубликованные как MBean
+// org.example:type=Parser и org.example:type=Query,name=<запрос>; смотреть через jconsole/VisualVM.
+// Если MBeanServer равен null, замеры только накапливаются и доступны через parser()/query().
+public class JmxMetrics implements Metrics {
+    public static final String DOMAIN = "org.example";
+
+    private final MBeanServer server;
+    private final String domain;
+    private final ParserStats parser = new ParserStats();
+    private final Map<String, QueryStats> queries = new ConcurrentHashMap<>();
+
+    public JmxMetrics(MBeanServer server, String domain) {
+        this.server = server;
+        this.domain = domain;
+        register(parser, "type=Parser");
+    }
+
+    public static JmxMetrics platform() {
+        return new JmxMetrics(ManagementFactory.getPlatformMBeanServer(), DOMAIN);
+    }
+
+    @Override
+    public void recordParse(long rows, long bytes, long nanos) {
+        parser.record(rows, bytes, nanos);
+    }
+
+    @Override
+    public void recordMalformedRow() {
+        parser.recordMalformedRow();
+    }
+
+    @Override
+    public void recordQuery(String query, long nanos, long rowsScanned, long allocatedBytes) {
+        query(query).record(nanos, rowsScanned, allocatedBytes);
+    }
+
+    public ParserStats parser() {
+        return parser;
+    }
+
+    public QueryStats query(String query) {
+        var stats = queries.get(query);
+        if (stats == null) {
+            stats = queries.computeIfAbsent(query, name -> {
+                var created = new QueryStats();
+                register(created, "type=Query,name=" + ObjectName.quote(name));
+                return created;
+            });
+        }
+        return stats;
+    }
+
+    private void register(Object mbean, String properties) {
+        if (server == null) {
+            return;
+        }
+        try {
+            var name = new ObjectName(domain + ":" + properties);
+            try {
+                server.registerMBean(mbean, name);
+            } catch (InstanceAlreadyExistsException e) {
+                // Новый экземпляр заменяет прежний, например после setGlobal
+                server.unregisterMBean(name);
+                server.registerMBean(mbean, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register MBean " + properties, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.metrics;
+
+// Приёмник замеров горячих путей. По умолчанию замеры публикуются через JMX
+// (JmxMetrics), другую реализацию можно установить через setGlobal.
+public interface Metrics {
+    Metrics NOOP = new Metrics() {
+        @Override
+        public void recordParse(long rows, long bytes, long nanos) {
+        }
+
+        @Override
+        public void recordMalformedRow() {
+        }
+
+        @Override
+        public void recordQuery(String query, long nanos, long rowsScanned, long allocatedBytes) {
+        }
+    };
+
+    // Разобран файл или его часть: число строк, байт и затраченное время
+    void recordParse(long rows, long bytes, long nanos);
+
+    void recordMalformedRow();
+
+    // rowsScanned - строки, которые запрос реально прочитал (см. ScanCounter);
+    // allocatedBytes - оценка выделенной памяти или -1, если JVM её не сообщает
+    void recordQuery(String query, long nanos, long rowsScanned, long allocatedBytes);
+
+    static Metrics global() {
+        return GlobalMetrics.get();
+    }
+
+    static void setGlobal(Metrics metrics) {
+        GlobalMetrics.set(metrics);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Пропускная способность разбора: средняя за всё время и за последний разбор
+public class ParserStats implements ParserStatsMBean {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder malformedRows = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+    private volatile double lastRowsPerSecond;
+    private volatile double lastBytesPerSecond;
+
+    void record(long rows, long bytes, long nanos) {
+        this.rows.add(rows);
+        this.bytes.add(bytes);
+        this.nanos.add(nanos);
+        parses.increment();
+        lastRowsPerSecond = perSecond(rows, nanos);
+        lastBytesPerSecond = perSecond(bytes, nanos);
+    }
+
+    void recordMalformedRow() {
+        malformedRows.increment();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    @Override
+    public long getMalformedRows() {
+        return malformedRows.sum();
+    }
+
+    @Override
+    public long getParses() {
+        return parses.sum();
+    }
+
+    @Override
+    public double getRowsPerSecond() {
+        return perSecond(rows.sum(), nanos.sum());
+    }
+
+    @Override
+    public double getBytesPerSecond() {
+        return perSecond(bytes.sum(), nanos.sum());
+    }
+
+    @Override
+    public double getLastRowsPerSecond() {
+        return lastRowsPerSecond;
+    }
+
+    @Override
+    public double getLastBytesPerSecond() {
+        return lastBytesPerSecond;
+    }
+
+    private static double perSecond(long amount, long nanos) {
+        return nanos <= 0 ? 0 : amount * NANOS_PER_SECOND / nanos;
+    }
+}
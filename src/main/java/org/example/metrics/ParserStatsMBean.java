@@ -0,0 +1,19 @@
+package org.example.metrics;
+
+public interface ParserStatsMBean {
+    long getRows();
+
+    long getBytes();
+
+    long getMalformedRows();
+
+    long getParses();
+
+    double getRowsPerSecond();
+
+    double getBytesPerSecond();
+
+    double getLastRowsPerSecond();
+
+    double getLastBytesPerSecond();
+}
@@ -0,0 +1,78 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Замеры одного запроса: гистограмма задержек, просмотренные строки и выделенная память
+public class QueryStats implements QueryStatsMBean {
+    private static final double NANOS_PER_MICRO = 1e3;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rowsScanned = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocationSamples = new LongAdder();
+
+    void record(long nanos, long rowsScanned, long allocatedBytes) {
+        latency.record(nanos);
+        this.rowsScanned.add(rowsScanned);
+        if (allocatedBytes >= 0) {
+            this.allocatedBytes.add(allocatedBytes);
+            allocationSamples.increment();
+        }
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    @Override
+    public long getCount() {
+        return latency.count();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency.mean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.percentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP90Micros() {
+        return latency.percentile(90) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.percentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency.max() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getRowsScanned() {
+        return rowsScanned.sum();
+    }
+
+    @Override
+    public double getRowsScannedPerQuery() {
+        long count = latency.count();
+        return count == 0 ? 0 : (double) rowsScanned.sum() / count;
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    @Override
+    public double getAllocatedBytesPerQuery() {
+        long samples = allocationSamples.sum();
+        return samples == 0 ? 0 : (double) allocatedBytes.sum() / samples;
+    }
+}
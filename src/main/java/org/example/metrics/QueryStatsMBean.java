@@ -0,0 +1,23 @@
+package org.example.metrics;
+
+public interface QueryStatsMBean {
+    long getCount();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    double getMaxMicros();
+
+    long getRowsScanned();
+
+    double getRowsScannedPerQuery();
+
+    long getAllocatedBytes();
+
+    double getAllocatedBytesPerQuery();
+}
@@ -0,0 +1,20 @@
+package org.example.metrics;
+
+// Число строк, реально прочитанных запросами в текущем потоке. Резолвер добавляет сюда
+// строки, которые просмотрел (на вызывающем потоке, даже если читал параллельно);
+// InstrumentedResolver, как Stopwatch с памятью, берёт разницу до и после запроса.
+// Попадание в кеш или в агрегаты ничего не добавляет.
+public final class ScanCounter {
+    private static final ThreadLocal<long[]> ROWS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ScanCounter() {
+    }
+
+    public static void add(long rows) {
+        ROWS.get()[0] += rows;
+    }
+
+    public static long current() {
+        return ROWS.get()[0];
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Время и оценка выделенной текущим потоком памяти между start() и моментом замера.
+// Память, выделенная в других потоках (например, параллельным стримом), не учитывается.
+public final class Stopwatch {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private final long startNanos;
+    private final long startAllocated;
+
+    private Stopwatch() {
+        this.startAllocated = currentThreadAllocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    public static Stopwatch start() {
+        return new Stopwatch();
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    // -1, если JVM не умеет считать выделения по потокам
+    public long allocatedBytes() {
+        if (startAllocated < 0) {
+            return -1;
+        }
+        long allocated = currentThreadAllocatedBytes();
+        return allocated < 0 ? -1 : allocated - startAllocated;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+}
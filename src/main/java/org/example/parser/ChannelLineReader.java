@@ -0,0 +1,104 @@
+package org.example.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+// Построчное чтение из канала через один переиспользуемый буфер: строка доступна как
+// диапазон [lineStart, lineEnd) в buffer() до следующего вызова next().
+class ChannelLineReader implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer;
+    private int lineStart;
+    private int lineEnd;
+    private int scanFrom;
+    private boolean eof;
+    private long bytesRead;
+
+    ChannelLineReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    ChannelLineReader(ReadableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    int lineStart() {
+        return lineStart;
+    }
+
+    int lineEnd() {
+        return lineEnd;
+    }
+
+    // Сколько байт прочитано из канала
+    long bytesRead() {
+        return bytesRead;
+    }
+
+    boolean next() throws IOException {
+        while (true) {
+            int limit = buffer.limit();
+            for (int i = scanFrom; i < limit; i++) {
+                if (buffer.get(i) == '\n') {
+                    setLine(buffer.position(), i);
+                    buffer.position(i + 1);
+                    scanFrom = i + 1;
+                    return true;
+                }
+            }
+            scanFrom = limit;
+            if (eof) {
+                if (buffer.position() == limit) {
+                    return false;
+                }
+                setLine(buffer.position(), limit);
+                buffer.position(limit);
+                return true;
+            }
+            fill();
+        }
+    }
+
+    private void setLine(int start, int end) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    private void fill() throws IOException {
+        int consumed = buffer.position();
+        if (consumed == 0 && buffer.limit() == buffer.capacity()) {
+            // Строка не помещается в буфер целиком
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        scanFrom -= consumed;
+        int read = channel.read(buffer);
+        if (read < 0) {
+            eof = true;
+        } else {
+            bytesRead += read;
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
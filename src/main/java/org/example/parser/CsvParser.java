@@ -1,25 +1,187 @@
 package org.example.parser;
 
+import org.example.metrics.Metrics;
 import org.example.model.Player;
-import org.example.model.Position;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CsvParser {
+    // Один отображённый в память кусок не может превышать Integer.MAX_VALUE байт
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
     public static List<Player> parseCsvToList(String pathString) throws IOException {
-        return Files.readAllLines(Paths.get(pathString))
-                .stream()
-                .skip(1)
-                .map(CsvParser::parsePlayerRow)
-                .toList();
+        return parseCsvToList(pathString, ParseOptions.STRICT);
+    }
+
+    public static List<Player> parseCsvToList(String pathString, ParseOptions options) throws IOException {
+        try (var players = streamCsv(pathString, options)) {
+            return players.toList();
+        }
+    }
+
+    // Строки читаются лениво, файл закрывается по окончании чтения или при закрытии стрима,
+    // поэтому стрим следует использовать в try-with-resources.
+    public static Stream<Player> streamCsv(String pathString) throws IOException {
+        return streamCsv(pathString, ParseOptions.STRICT);
+    }
+
+    public static Stream<Player> streamCsv(String pathString, ParseOptions options) throws IOException {
+        var channel = FileChannel.open(Paths.get(pathString), StandardOpenOption.READ);
+        PlayerReader reader;
+        try {
+            reader = new PlayerReader(channel, options);
+        } catch (IOException | RuntimeException e) {
+            // Заголовок не прочитался или не подошёл: стрима не будет, закрыть файл больше некому
+            try {
+                channel.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    public static List<Player> parseCsvParallel(String pathString) throws IOException {
+        return parseCsvParallel(pathString, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Файл отображается в память и делится по границам строк на куски, каждый разбирается
+    // в своём потоке; результат склеивается в порядке строк файла.
+    public static List<Player> parseCsvParallel(String pathString, int threads) throws IOException {
+        return parseCsvParallel(pathString, threads, ParseOptions.STRICT);
+    }
+
+    // В нестрогом режиме испорченные строки передаются в карантин после разбора всех кусков,
+    // в порядке файла и с абсолютными номерами строк.
+    public static List<Player> parseCsvParallel(String pathString, int threads, ParseOptions options)
+            throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        long startNanos = System.nanoTime();
+        try (var channel = FileChannel.open(Paths.get(pathString), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = nextLineStart(channel, 0, size);
+            long dataSize = size - dataStart;
+            if (dataSize <= 0) {
+                return List.of();
+            }
+            byte[] columns = readColumns(channel, dataStart, options);
+            long chunks = Math.max(threads, (dataSize + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+            long chunkSize = (dataSize + chunks - 1) / chunks;
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                var pool = new StringPool();
+                var futures = new ArrayList<Future<MappedChunkParser.Result>>();
+                long start = dataStart;
+                while (start < size) {
+                    long end = nextLineStart(channel, Math.min(start + chunkSize, size) - 1, size);
+                    futures.add(executor.submit(new MappedChunkParser(channel, start, end, pool, columns, options)));
+                    start = end;
+                }
+                var parts = new ArrayList<List<Player>>(futures.size());
+                int total = 0;
+                long malformed = 0;
+                // Заголовок - первая строка файла
+                long linesBefore = 1;
+                for (var future : futures) {
+                    var part = await(future);
+                    parts.add(part.players());
+                    total += part.players().size();
+                    for (var row : part.malformed()) {
+                        options.quarantine(new MalformedRow(linesBefore + row.lineNumber(), row.line(), row.error()),
+                                ++malformed);
+                    }
+                    linesBefore += part.lines();
+                }
+                options.checkRatio(malformed, total);
+                var players = new ArrayList<Player>(total);
+                parts.forEach(players::addAll);
+                Metrics.global().recordParse(total, size, System.nanoTime() - startNanos);
+                return Collections.unmodifiableList(players);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // Раскладка колонок по заголовку - первым headerEnd байтам файла
+    private static byte[] readColumns(FileChannel channel, long headerEnd, ParseOptions options) throws IOException {
+        var header = ByteBuffer.allocate(Math.toIntExact(headerEnd));
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) <= 0) {
+                break;
+            }
+        }
+        int end = header.position();
+        while (end > 0 && (header.get(end - 1) == '\n' || header.get(end - 1) == '\r')) {
+            end--;
+        }
+        return PlayerRowDecoder.columnsFor(header, 0, end, options.projection());
+    }
+
+    // Позиция сразу после первого '\n', начиная с from, либо конец файла
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        var window = ByteBuffer.allocate(8192);
+        long position = from;
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
     }
 
-    private static Player parsePlayerRow(String row) {
-        var cells = row.split(";");
-        return new Player(cells[0], cells[1], Position.valueOf(cells[3]), cells[4], cells[5],
-                Integer.parseInt(cells[6]), Integer.parseInt(cells[8]), Integer.parseInt(cells[11]));
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 }
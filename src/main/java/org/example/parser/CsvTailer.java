@@ -0,0 +1,235 @@
+package org.example.parser;
+
+import org.example.metrics.Metrics;
+import org.example.model.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Следит за CSV, в конец которого дописываются строки, и разбирает только новые байты
+// начиная с последнего прочитанного смещения. Недописанная последняя строка (без '\n')
+// откладывается до следующего чтения. Если файл стал короче или на его место положили другой
+// (ротация), он читается заново с начала, а слушатель получает onTruncated.
+public class CsvTailer implements Closeable {
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    public interface Listener {
+        // Новые строки в порядке файла; вызывается из потока, выполняющего poll
+        void onRows(List<Player> players);
+
+        // Файл усечён или заменён: прежние строки больше не действительны
+        default void onTruncated() {
+        }
+    }
+
+    private final Path path;
+    private final ParseOptions options;
+    private final Listener listener;
+    private final Duration pollInterval;
+    private final Metrics metrics = Metrics.global();
+    private final StringPool pool = new StringPool();
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private PlayerRowDecoder decoder;
+    private long offset;
+    private Object fileIdentity;
+    private long lineNumber;
+    private long rows;
+    private long malformed;
+    private volatile WatchService watchService;
+    private volatile boolean closed;
+
+    public CsvTailer(Path path, ParseOptions options, Listener listener) {
+        this(path, options, listener, DEFAULT_POLL_INTERVAL);
+    }
+
+    // pollInterval - как часто перечитывать файл, даже если WatchService не сообщил об изменении
+    public CsvTailer(Path path, ParseOptions options, Listener listener, Duration pollInterval) {
+        this.path = path.toAbsolutePath();
+        this.options = options;
+        this.listener = listener;
+        this.pollInterval = pollInterval;
+    }
+
+    // Смещение в файле сразу после последней разобранной строки
+    public synchronized long offset() {
+        return offset;
+    }
+
+    // Дочитывает файл от offset и возвращает число новых игроков. Если строка не разобралась,
+    // игроки до неё всё равно передаются слушателю, а следующий poll начнёт с этой строки.
+    public synchronized int poll() throws IOException {
+        long startNanos = System.nanoTime();
+        var players = new ArrayList<Player>();
+        // До открытия: если файл заменят между вызовами, следующий poll увидит новую идентичность
+        Object identity = identity(path);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset || (fileIdentity != null && !fileIdentity.equals(identity))) {
+                reset();
+                listener.onTruncated();
+            }
+            fileIdentity = identity;
+            long startOffset = offset;
+            try {
+                readAppended(channel, size, players);
+            } finally {
+                if (!players.isEmpty()) {
+                    rows += players.size();
+                    metrics.recordParse(players.size(), offset - startOffset, System.nanoTime() - startNanos);
+                    listener.onRows(players);
+                }
+            }
+        }
+        // Доля испорченных строк считается по всему прочитанному с начала файла
+        options.checkRatio(malformed, rows);
+        return players.size();
+    }
+
+    private void readAppended(FileChannel channel, long size, List<Player> players) throws IOException {
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            int end = buffer.position();
+            int lastNewline = end - 1;
+            while (lastNewline >= 0 && buffer.get(lastNewline) != '\n') {
+                lastNewline--;
+            }
+            if (lastNewline < 0) {
+                if (end < buffer.capacity()) {
+                    // Строка ещё дописывается
+                    break;
+                }
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                continue;
+            }
+            readLines(lastNewline + 1, players);
+        }
+    }
+
+    // Ждёт изменений файла и дочитывает его до close(); вызывать в отдельном потоке
+    public void run() throws IOException {
+        Path directory = path.getParent();
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            watchService = watcher;
+            if (closed) {
+                return;
+            }
+            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            poll();
+            while (!closed) {
+                var key = watcher.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                if (Files.exists(path)) {
+                    poll();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // close() из другого потока
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Thread start() {
+        var thread = new Thread(() -> {
+            try {
+                run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, "csv-tailer-" + path.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        var watcher = watchService;
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    // fileKey (устройство и inode), а где файловая система его не даёт - время создания.
+    // При наличии fileKey время создания не берём: на Linux без statx это время изменения.
+    private static Object identity(Path path) throws IOException {
+        var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+    }
+
+    private void reset() {
+        offset = 0;
+        lineNumber = 0;
+        rows = 0;
+        malformed = 0;
+        decoder = null;
+    }
+
+    // Разбирает целые строки buffer[0, limit), прочитанные с offset. offset, lineNumber и decoder
+    // сдвигаются после каждой строки, поэтому исключение не теряет и не повторяет разобранное.
+    private void readLines(int limit, List<Player> players) {
+        long chunkOffset = offset;
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            long line = lineNumber + 1;
+            if (decoder == null) {
+                // Первая строка файла - заголовок
+                decoder = new PlayerRowDecoder(pool,
+                        PlayerRowDecoder.columnsFor(buffer, lineStart, lineEnd, options.projection()));
+            } else if (lineEnd > lineStart) {
+                Player player;
+                try {
+                    player = decoder.decode(buffer, lineStart, lineEnd);
+                } catch (IllegalArgumentException e) {
+                    metrics.recordMalformedRow();
+                    if (!options.isLenient()) {
+                        throw e;
+                    }
+                    // Строка уже в карантине, поэтому пропускаем её до проверки бюджета ошибок
+                    lineNumber = line;
+                    offset = chunkOffset + next;
+                    malformed++;
+                    options.quarantine(MalformedRow.of(line, buffer, lineStart, lineEnd, e), malformed);
+                    lineStart = next;
+                    continue;
+                }
+                players.add(player);
+            }
+            lineNumber = line;
+            offset = chunkOffset + next;
+            lineStart = next;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.parser;
+
+// Нестрогий разбор прерван: испорченных строк больше, чем разрешено ParseOptions
+public class ErrorBudgetExceededException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final long malformedRows;
+    private final MalformedRow lastMalformed;
+
+    public ErrorBudgetExceededException(String message, long malformedRows, MalformedRow lastMalformed) {
+        super(message);
+        this.malformedRows = malformedRows;
+        this.lastMalformed = lastMalformed;
+    }
+
+    public long malformedRows() {
+        return malformedRows;
+    }
+
+    // Последняя учтённая испорченная строка или null, если бюджет превышен по доле
+    public MalformedRow lastMalformed() {
+        return lastMalformed;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.parser;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Строка, пропущенная при нестрогом разборе; lineNumber считается с 1, заголовок - строка 1.
+// Serializable, потому что хранится в ErrorBudgetExceededException.
+public record MalformedRow(long lineNumber, String line, String error) implements Serializable {
+    // Текст строки декодируется только для испорченных строк
+    static MalformedRow of(long lineNumber, ByteBuffer buffer, int start, int end, RuntimeException error) {
+        var line = StandardCharsets.UTF_8.decode(buffer.duplicate().position(start).limit(end)).toString();
+        return new MalformedRow(lineNumber, line, error.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.parser;
+
+import org.example.metrics.Metrics;
+import org.example.model.Player;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// Разбирает кусок файла [start, end), который начинается с начала строки и заканчивается её концом.
+class MappedChunkParser implements Callable<MappedChunkParser.Result> {
+    // Номера испорченных строк отсчитываются от начала куска, lines - число строк в куске.
+    // Если в куске испорченных строк больше бюджета, разбор куска прекращается досрочно:
+    // бюджет всё равно будет превышен при сборке результата.
+    record Result(List<Player> players, List<MalformedRow> malformed, long lines) {
+    }
+
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+    private final StringPool pool;
+    private final byte[] columns;
+    private final ParseOptions options;
+
+    MappedChunkParser(FileChannel channel, long start, long end, StringPool pool, byte[] columns,
+                      ParseOptions options) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.pool = pool;
+        this.columns = columns;
+        this.options = options;
+    }
+
+    @Override
+    public Result call() throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        var decoder = new PlayerRowDecoder(pool, columns);
+        var players = new ArrayList<Player>();
+        var malformed = new ArrayList<MalformedRow>();
+        long lines = 0;
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            lines++;
+            if (lineEnd > lineStart) {
+                try {
+                    players.add(decoder.decode(buffer, lineStart, lineEnd));
+                } catch (IllegalArgumentException e) {
+                    Metrics.global().recordMalformedRow();
+                    if (!options.isLenient()) {
+                        throw e;
+                    }
+                    malformed.add(MalformedRow.of(lines, buffer, lineStart, lineEnd, e));
+                    if (malformed.size() > options.maxMalformedRows()) {
+                        return new Result(players, malformed, lines);
+                    }
+                }
+            }
+            lineStart = next;
+        }
+        return new Result(players, malformed, lines);
+    }
+}
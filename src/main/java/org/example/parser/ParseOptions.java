@@ -0,0 +1,112 @@
+package org.example.parser;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Параметры разбора: какие поля Player читать и как поступать с испорченными строками.
+// STRICT читает все поля и прерывает разбор на первой же испорченной строке;
+// в нестрогом режиме строка пропускается и передаётся в quarantine с номером строки,
+// а разбор прерывается только при превышении бюджета ошибок.
+public final class ParseOptions {
+    public static final ParseOptions STRICT = strict().build();
+
+    private final boolean lenient;
+    private final Set<PlayerField> projection;
+    private final Consumer<MalformedRow> quarantine;
+    private final long maxMalformedRows;
+    private final double maxMalformedRatio;
+
+    private ParseOptions(Builder builder) {
+        this.lenient = builder.lenient;
+        this.projection = Collections.unmodifiableSet(EnumSet.copyOf(builder.projection));
+        this.quarantine = builder.quarantine;
+        this.maxMalformedRows = builder.maxMalformedRows;
+        this.maxMalformedRatio = builder.maxMalformedRatio;
+    }
+
+    public static Builder strict() {
+        return new Builder(false);
+    }
+
+    public static Builder lenient() {
+        return new Builder(true);
+    }
+
+    public static class Builder {
+        private final boolean lenient;
+        private EnumSet<PlayerField> projection = EnumSet.allOf(PlayerField.class);
+        private Consumer<MalformedRow> quarantine = row -> {
+        };
+        private long maxMalformedRows = Long.MAX_VALUE;
+        private double maxMalformedRatio = 1;
+
+        private Builder(boolean lenient) {
+            this.lenient = lenient;
+        }
+
+        // Читать только эти поля; остальные колонки пропускаются без разбора
+        public Builder project(PlayerField first, PlayerField... rest) {
+            this.projection = EnumSet.of(first, rest);
+            return this;
+        }
+
+        // Получает испорченные строки в порядке файла; при параллельном разборе вызывается
+        // из одного потока после разбора всех кусков
+        public Builder quarantine(Consumer<MalformedRow> quarantine) {
+            this.quarantine = quarantine;
+            return this;
+        }
+
+        public Builder maxMalformedRows(long maxMalformedRows) {
+            if (maxMalformedRows < 0) {
+                throw new IllegalArgumentException("maxMalformedRows must not be negative: " + maxMalformedRows);
+            }
+            this.maxMalformedRows = maxMalformedRows;
+            return this;
+        }
+
+        // Доля испорченных среди всех строк данных, проверяется по окончании разбора
+        public Builder maxMalformedRatio(double maxMalformedRatio) {
+            if (!(maxMalformedRatio >= 0 && maxMalformedRatio <= 1)) {
+                throw new IllegalArgumentException("maxMalformedRatio must be in [0, 1]: " + maxMalformedRatio);
+            }
+            this.maxMalformedRatio = maxMalformedRatio;
+            return this;
+        }
+
+        public ParseOptions build() {
+            return new ParseOptions(this);
+        }
+    }
+
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    public Set<PlayerField> projection() {
+        return projection;
+    }
+
+    long maxMalformedRows() {
+        return maxMalformedRows;
+    }
+
+    // Передаёт строку в карантин; malformed - число испорченных строк вместе с этой
+    void quarantine(MalformedRow row, long malformed) {
+        quarantine.accept(row);
+        if (malformed > maxMalformedRows) {
+            throw new ErrorBudgetExceededException("Too many malformed rows: more than " + maxMalformedRows
+                    + ", last at line " + row.lineNumber() + ": " + row.error(), malformed, row);
+        }
+    }
+
+    void checkRatio(long malformed, long rows) {
+        long total = malformed + rows;
+        if (total > 0 && (double) malformed / total > maxMalformedRatio) {
+            throw new ErrorBudgetExceededException("Malformed rows " + malformed + " of " + total
+                    + " exceed ratio " + maxMalformedRatio, malformed, null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.parser;
+
+import java.util.Locale;
+
+// Поля Player и названия колонок CSV, из которых они читаются
+public enum PlayerField {
+    NAME("Name", PlayerRowDecoder.NAME),
+    TEAM("Team", PlayerRowDecoder.TEAM),
+    POSITION("Position", PlayerRowDecoder.POSITION),
+    NATIONALITY("Nationality", PlayerRowDecoder.NATIONALITY),
+    AGENCY("Agency", PlayerRowDecoder.AGENCY),
+    TRANSFER_COST("Transfer cost", PlayerRowDecoder.TRANSFER_COST),
+    GOALS("Goals", PlayerRowDecoder.GOALS),
+    RED_CARDS("Red cards", PlayerRowDecoder.RED_CARDS);
+
+    private final String column;
+    final byte code;
+
+    PlayerField(String column, byte code) {
+        this.column = column;
+        this.code = code;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    // Поле по названию колонки без учёта регистра и пробелов по краям, или null
+    static PlayerField byColumn(String name) {
+        String normalized = name.strip().toLowerCase(Locale.ROOT);
+        for (PlayerField field : values()) {
+            if (field.column.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.parser;
+
+import org.example.metrics.Metrics;
+import org.example.model.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Ленивый итератор по строкам CSV: в памяти держится только текущая строка,
+// канал закрывается при достижении конца файла или явном close().
+public class PlayerReader implements Iterator<Player>, Closeable {
+    private final ChannelLineReader lines;
+    private final PlayerRowDecoder decoder;
+    private final ParseOptions options;
+    private final Metrics metrics = Metrics.global();
+    private final long startNanos = System.nanoTime();
+    private long rows;
+    private long lineNumber;
+    private long malformed;
+    private Player next;
+    private boolean closed;
+
+    public PlayerReader(ReadableByteChannel channel) throws IOException {
+        this(channel, ParseOptions.STRICT);
+    }
+
+    public PlayerReader(ReadableByteChannel channel, ParseOptions options) throws IOException {
+        this.lines = new ChannelLineReader(channel);
+        this.options = options;
+        // Колонки берутся из заголовка по названиям
+        byte[] columns;
+        if (lines.next()) {
+            lineNumber++;
+            columns = PlayerRowDecoder.columnsFor(lines.buffer(), lines.lineStart(), lines.lineEnd(), options.projection());
+        } else {
+            columns = PlayerRowDecoder.columnsFor(lines.buffer(), 0, 0, options.projection());
+        }
+        this.decoder = new PlayerRowDecoder(new StringPool(), columns);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            while (lines.next()) {
+                lineNumber++;
+                if (lines.lineEnd() > lines.lineStart()) {
+                    next = decode();
+                    if (next != null) {
+                        rows++;
+                        return true;
+                    }
+                }
+            }
+            close();
+            options.checkRatio(malformed, rows);
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // null, если строка испорчена и пропущена в нестрогом режиме
+    private Player decode() throws IOException {
+        try {
+            return decoder.decode(lines.buffer(), lines.lineStart(), lines.lineEnd());
+        } catch (IllegalArgumentException e) {
+            metrics.recordMalformedRow();
+            if (!options.isLenient()) {
+                throw e;
+            }
+            malformed++;
+            var row = MalformedRow.of(lineNumber, lines.buffer(), lines.lineStart(), lines.lineEnd(), e);
+            try {
+                options.quarantine(row, malformed);
+            } catch (ErrorBudgetExceededException budgetExceeded) {
+                close();
+                throw budgetExceeded;
+            }
+            return null;
+        }
+    }
+
+    // Число строк, пропущенных в нестрогом режиме
+    public long malformedRows() {
+        return malformed;
+    }
+
+    @Override
+    public Player next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Player player = next;
+        next = null;
+        return player;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            lines.close();
+            metrics.recordParse(rows, lines.bytesRead(), System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.parser;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Разбор строки CSV прямо из байтового буфера без split и промежуточных строк:
+// числа читаются по цифрам, ненужные колонки только пропускаются.
+// Не потокобезопасен: каждому потоку нужен свой экземпляр.
+class PlayerRowDecoder {
+    static final byte SKIP = 0;
+    static final byte NAME = 1;
+    static final byte TEAM = 2;
+    static final byte POSITION = 3;
+    static final byte NATIONALITY = 4;
+    static final byte AGENCY = 5;
+    static final byte TRANSFER_COST = 6;
+    static final byte GOALS = 7;
+    static final byte RED_CARDS = 8;
+
+    private static final byte SEPARATOR = ';';
+    private static final Position[] POSITIONS = Position.values();
+    private static final byte[][] POSITION_NAMES = new byte[POSITIONS.length][];
+
+    static {
+        for (int i = 0; i < POSITIONS.length; i++) {
+            POSITION_NAMES[i] = POSITIONS[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    // Name;Team;City;Position;Nationality;Agency;Transfer cost;Participations;Goals;Assists;Yellow cards;Red cards
+    private static final byte[] DEFAULT_COLUMNS = {
+            NAME, TEAM, SKIP, POSITION, NATIONALITY, AGENCY, TRANSFER_COST, SKIP, GOALS, SKIP, SKIP, RED_CARDS
+    };
+
+    private final byte[] columns;
+    private final ByteStringInterner interner;
+    private byte[] scratch = new byte[256];
+
+    private String name;
+    private String team;
+    private Position position;
+    private String nationality;
+    private String agency;
+    private int transferCost;
+    private int goals;
+    private int redCards;
+
+    // Команда, страна и агентство повторяются от строки к строке и интернируются через pool
+    PlayerRowDecoder(StringPool pool) {
+        this(pool, DEFAULT_COLUMNS);
+    }
+
+    PlayerRowDecoder(StringPool pool, byte[] columns) {
+        this.columns = columns;
+        this.interner = new ByteStringInterner(pool);
+    }
+
+    // Раскладка колонок по строке заголовка: колонки вне projection пропускаются, а колонки
+    // после последней нужной не просматриваются вовсе. Непрочитанные поля Player остаются
+    // null или 0. Без заголовка используется стандартный порядок колонок.
+    static byte[] columnsFor(ByteBuffer header, int start, int end, Set<PlayerField> projection) {
+        if (start == end) {
+            return project(DEFAULT_COLUMNS, projection);
+        }
+        var columns = new byte[end - start + 1];
+        var missing = EnumSet.noneOf(PlayerField.class);
+        missing.addAll(projection);
+        int count = 0;
+        int last = -1;
+        int cellStart = start;
+        while (true) {
+            int cellEnd = cellStart;
+            while (cellEnd < end && header.get(cellEnd) != SEPARATOR) {
+                cellEnd++;
+            }
+            String name = StandardCharsets.UTF_8.decode(header.duplicate().position(cellStart).limit(cellEnd)).toString();
+            if (count == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            PlayerField field = PlayerField.byColumn(name);
+            if (field != null && missing.remove(field)) {
+                columns[count] = field.code;
+                last = count;
+            }
+            count++;
+            if (cellEnd >= end) {
+                break;
+            }
+            cellStart = cellEnd + 1;
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Header has no columns for " + missing);
+        }
+        return Arrays.copyOf(columns, last + 1);
+    }
+
+    private static byte[] project(byte[] columns, Set<PlayerField> projection) {
+        var projected = new byte[columns.length];
+        int last = -1;
+        for (int i = 0; i < columns.length; i++) {
+            for (PlayerField field : projection) {
+                if (field.code == columns[i]) {
+                    projected[i] = columns[i];
+                    last = i;
+                }
+            }
+        }
+        return Arrays.copyOf(projected, last + 1);
+    }
+
+    Player decode(ByteBuffer buffer, int start, int end) {
+        int column = 0;
+        int cellStart = start;
+        while (column < columns.length) {
+            int cellEnd = cellStart;
+            while (cellEnd < end && buffer.get(cellEnd) != SEPARATOR) {
+                cellEnd++;
+            }
+            if (columns[column] != SKIP) {
+                readCell(columns[column], buffer, cellStart, cellEnd);
+            }
+            column++;
+            if (cellEnd >= end) {
+                break;
+            }
+            cellStart = cellEnd + 1;
+        }
+        if (column < columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " columns but found " + column);
+        }
+        return new Player(name, team, position, nationality, agency, transferCost, goals, redCards);
+    }
+
+    private void readCell(byte field, ByteBuffer buffer, int start, int end) {
+        switch (field) {
+            case NAME -> name = readString(buffer, start, end);
+            case TEAM -> team = interner.intern(buffer, start, end);
+            case POSITION -> position = readPosition(buffer, start, end);
+            case NATIONALITY -> nationality = interner.intern(buffer, start, end);
+            case AGENCY -> agency = interner.intern(buffer, start, end);
+            case TRANSFER_COST -> transferCost = readInt(buffer, start, end);
+            case GOALS -> goals = readInt(buffer, start, end);
+            case RED_CARDS -> redCards = readInt(buffer, start, end);
+            default -> throw new IllegalStateException("Unknown field " + field);
+        }
+    }
+
+    String readString(ByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return "";
+        }
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    static Position readPosition(ByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < POSITION_NAMES.length; i++) {
+            byte[] candidate = POSITION_NAMES[i];
+            if (candidate.length == length && matches(buffer, start, candidate)) {
+                return POSITIONS[i];
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + Position.class.getCanonicalName() + "."
+                + StandardCharsets.UTF_8.decode(buffer.duplicate().position(start).limit(end)));
+    }
+
+    private static boolean matches(ByteBuffer buffer, int start, byte[] candidate) {
+        for (int i = 0; i < candidate.length; i++) {
+            if (buffer.get(start + i) != candidate[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Та же семантика, что у Integer.parseInt, но без создания строки
+    static int readInt(ByteBuffer buffer, int start, int end) {
+        if (start == end) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        int i = start;
+        boolean negative = false;
+        byte first = buffer.get(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (i == end) {
+                throw invalidNumber(buffer, start, end);
+            }
+        }
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || result < limit / 10) {
+                throw invalidNumber(buffer, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidNumber(buffer, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException invalidNumber(ByteBuffer buffer, int start, int end) {
+        var text = StandardCharsets.UTF_8.decode(buffer.duplicate().position(start).limit(end));
+        return new NumberFormatException("For input string: \"" + text + "\"");
+    }
+}
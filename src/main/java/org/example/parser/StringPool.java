@@ -0,0 +1,14 @@
+package org.example.parser;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Общий на одну загрузку пул строк: все потоки разбора получают один и тот же экземпляр
+// для одинакового значения.
+class StringPool {
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    String canonical(String value) {
+        String existing = strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.query;
+
+import org.example.model.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Агрегатная функция над группой строк
+public final class Aggregate {
+    enum Kind {
+        COUNT, SUM, AVG, MIN, MAX, NAMES
+    }
+
+    private final Kind kind;
+    private final Measure measure;
+
+    private Aggregate(Kind kind, Measure measure) {
+        this.kind = kind;
+        this.measure = measure;
+    }
+
+    public static Aggregate count() {
+        return new Aggregate(Kind.COUNT, null);
+    }
+
+    public static Aggregate sum(Measure measure) {
+        return new Aggregate(Kind.SUM, measure);
+    }
+
+    public static Aggregate avg(Measure measure) {
+        return new Aggregate(Kind.AVG, measure);
+    }
+
+    public static Aggregate min(Measure measure) {
+        return new Aggregate(Kind.MIN, measure);
+    }
+
+    public static Aggregate max(Measure measure) {
+        return new Aggregate(Kind.MAX, measure);
+    }
+
+    // Имена игроков группы в исходном порядке
+    public static Aggregate names() {
+        return new Aggregate(Kind.NAMES, null);
+    }
+
+    Accumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    @Override
+    public String toString() {
+        return measure == null ? kind.name() : kind + "(" + measure + ")";
+    }
+
+    // Состояние агрегата для одной группы
+    final class Accumulator {
+        private long count;
+        private long sum;
+        private int extreme;
+        private List<String> names;
+
+        void accept(Player player) {
+            switch (kind) {
+                case COUNT -> count++;
+                case SUM, AVG -> {
+                    count++;
+                    sum += measure.of(player);
+                }
+                case MIN -> {
+                    int value = measure.of(player);
+                    if (count++ == 0 || value < extreme) {
+                        extreme = value;
+                    }
+                }
+                case MAX -> {
+                    int value = measure.of(player);
+                    if (count++ == 0 || value > extreme) {
+                        extreme = value;
+                    }
+                }
+                case NAMES -> {
+                    if (names == null) {
+                        names = new ArrayList<>();
+                    }
+                    names.add(player.name());
+                }
+            }
+        }
+
+        // COUNT и SUM - Long, AVG - Double, MIN и MAX - Integer (null без строк), NAMES - List<String>
+        Object result() {
+            return switch (kind) {
+                case COUNT -> count;
+                case SUM -> sum;
+                case AVG -> count == 0 ? null : (double) sum / count;
+                case MIN, MAX -> count == 0 ? null : extreme;
+                case NAMES -> names == null ? List.of() : names;
+            };
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.query;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.IndexedPlayerStore;
+
+import java.util.List;
+
+// Поля, по которым можно фильтровать с использованием индексов и группировать
+public enum Dimension {
+    TEAM {
+        @Override
+        public Object of(Player player) {
+            return player.team();
+        }
+
+        @Override
+        List<Player> bucket(IndexedPlayerStore store, Object value) {
+            return store.byTeam((String) value);
+        }
+    },
+    NATIONALITY {
+        @Override
+        public Object of(Player player) {
+            return player.nationality();
+        }
+
+        @Override
+        List<Player> bucket(IndexedPlayerStore store, Object value) {
+            return store.byNationality((String) value);
+        }
+    },
+    AGENCY {
+        @Override
+        public Object of(Player player) {
+            return player.agency();
+        }
+
+        @Override
+        List<Player> bucket(IndexedPlayerStore store, Object value) {
+            return store.byAgency((String) value);
+        }
+    },
+    POSITION {
+        @Override
+        public Object of(Player player) {
+            return player.position();
+        }
+
+        @Override
+        List<Player> bucket(IndexedPlayerStore store, Object value) {
+            return store.byPosition((Position) value);
+        }
+    };
+
+    public abstract Object of(Player player);
+
+    abstract List<Player> bucket(IndexedPlayerStore store, Object value);
+}
@@ -0,0 +1,65 @@
+package org.example.query;
+
+import org.example.model.Player;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+// Условие отбора. Равенство по измерению может выполняться через индекс,
+// остальные условия проверяются на каждой строке.
+public final class Filter {
+    private final Dimension dimension;
+    private final Object value;
+    private final Predicate<Player> predicate;
+    private final String description;
+
+    private Filter(Dimension dimension, Object value, Predicate<Player> predicate, String description) {
+        this.dimension = dimension;
+        this.value = value;
+        this.predicate = predicate;
+        this.description = description;
+    }
+
+    public static Filter eq(Dimension dimension, Object value) {
+        return new Filter(dimension, value, player -> Objects.equals(dimension.of(player), value),
+                dimension + " = " + value);
+    }
+
+    public static Filter in(Dimension dimension, Object... values) {
+        Set<Object> set = new HashSet<>(Arrays.asList(values));
+        return new Filter(null, null, player -> set.contains(dimension.of(player)),
+                dimension + " IN " + Arrays.toString(values));
+    }
+
+    public static Filter where(Predicate<Player> predicate) {
+        return new Filter(null, null, predicate, "predicate");
+    }
+
+    public static Filter not(Filter filter) {
+        return new Filter(null, null, filter.predicate.negate(), "NOT (" + filter.description + ")");
+    }
+
+    boolean isIndexable() {
+        return dimension != null;
+    }
+
+    Dimension dimension() {
+        return dimension;
+    }
+
+    Object value() {
+        return value;
+    }
+
+    boolean test(Player player) {
+        return predicate.test(player);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.query;
+
+import org.example.model.Player;
+
+import java.util.function.ToIntFunction;
+
+// Числовые поля игрока для агрегатов и сортировки
+public enum Measure {
+    TRANSFER_COST(Player::transferCost),
+    GOALS(Player::goals),
+    RED_CARDS(Player::redCards);
+
+    private final ToIntFunction<Player> getter;
+
+    Measure(ToIntFunction<Player> getter) {
+        this.getter = getter;
+    }
+
+    public int of(Player player) {
+        return getter.applyAsInt(player);
+    }
+}
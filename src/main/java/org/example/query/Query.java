@@ -0,0 +1,138 @@
+package org.example.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Описание запроса: фильтры, необязательная группировка, агрегаты, сортировка и лимит.
+// Без группировки и агрегатов запрос возвращает самих игроков.
+public final class Query {
+    private final List<Filter> filters;
+    private final Dimension groupBy;
+    private final List<Aggregate> aggregates;
+    private final Measure orderByMeasure;
+    private final int orderByAggregate;
+    private final boolean orderByKey;
+    private final boolean descending;
+    private final int limit;
+
+    private Query(Builder builder) {
+        this.filters = List.copyOf(builder.filters);
+        this.groupBy = builder.groupBy;
+        this.aggregates = List.copyOf(builder.aggregates);
+        this.orderByMeasure = builder.orderByMeasure;
+        this.orderByAggregate = builder.orderByAggregate;
+        this.orderByKey = builder.orderByKey;
+        this.descending = builder.descending;
+        this.limit = builder.limit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<Filter> filters = new ArrayList<>();
+        private Dimension groupBy;
+        private final List<Aggregate> aggregates = new ArrayList<>();
+        private Measure orderByMeasure;
+        private int orderByAggregate = -1;
+        private boolean orderByKey;
+        private boolean descending;
+        private int limit = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        public Builder where(Filter filter) {
+            filters.add(filter);
+            return this;
+        }
+
+        public Builder groupBy(Dimension dimension) {
+            this.groupBy = dimension;
+            return this;
+        }
+
+        public Builder aggregate(Aggregate aggregate) {
+            aggregates.add(aggregate);
+            return this;
+        }
+
+        // Сортировка строк-игроков по числовому полю
+        public Builder orderBy(Measure measure, boolean descending) {
+            this.orderByMeasure = measure;
+            this.descending = descending;
+            return this;
+        }
+
+        // Сортировка групп по значению агрегата с номером index, при равенстве - по ключу
+        public Builder orderByAggregate(int index, boolean descending) {
+            this.orderByAggregate = index;
+            this.descending = descending;
+            return this;
+        }
+
+        public Builder orderByKey() {
+            this.orderByKey = true;
+            return this;
+        }
+
+        public Builder limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("limit must not be negative: " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public Query build() {
+            boolean grouped = groupBy != null || !aggregates.isEmpty();
+            if (grouped && orderByMeasure != null) {
+                throw new IllegalArgumentException("Grouped query is ordered by aggregate or key, not by measure");
+            }
+            if (!grouped && (orderByAggregate >= 0 || orderByKey)) {
+                throw new IllegalArgumentException("Row query can only be ordered by measure");
+            }
+            if (orderByAggregate >= aggregates.size()) {
+                throw new IllegalArgumentException("No aggregate with index " + orderByAggregate);
+            }
+            return new Query(this);
+        }
+    }
+
+    public List<Filter> filters() {
+        return filters;
+    }
+
+    public Dimension groupBy() {
+        return groupBy;
+    }
+
+    public List<Aggregate> aggregates() {
+        return aggregates;
+    }
+
+    public boolean isGrouped() {
+        return groupBy != null || !aggregates.isEmpty();
+    }
+
+    Measure orderByMeasure() {
+        return orderByMeasure;
+    }
+
+    int orderByAggregate() {
+        return orderByAggregate;
+    }
+
+    boolean orderByKey() {
+        return orderByKey;
+    }
+
+    boolean descending() {
+        return descending;
+    }
+
+    int limit() {
+        return limit;
+    }
+}
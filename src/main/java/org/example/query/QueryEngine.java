@@ -0,0 +1,166 @@
+package org.example.query;
+
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.table.IndexedPlayerStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Выполняет Query над набором игроков. Планировщик выбирает самый узкий индекс среди
+// условий равенства, остальные условия, группировка и все агрегаты выполняются
+// за один проход по выбранным строкам. Строки просматриваются в исходном порядке,
+// группы выдаются в порядке первого появления, если сортировка не задана.
+public class QueryEngine {
+    private final List<Player> players;
+    private final IndexedPlayerStore store;
+
+    // Без индексов: любой запрос - полный проход
+    public QueryEngine(List<Player> players) {
+        this.players = players;
+        this.store = null;
+    }
+
+    public QueryEngine(IndexedPlayerStore store) {
+        this.players = store.players();
+        this.store = store;
+    }
+
+    public List<Player> players() {
+        return players;
+    }
+
+    public QueryPlan plan(Query query) {
+        Filter lookup = null;
+        int rows = players.size();
+        if (store != null) {
+            for (Filter filter : query.filters()) {
+                if (filter.isIndexable()) {
+                    int size = filter.dimension().bucket(store, filter.value()).size();
+                    if (lookup == null || size < rows) {
+                        lookup = filter;
+                        rows = size;
+                    }
+                }
+            }
+        }
+        var residual = new ArrayList<Filter>(query.filters().size());
+        for (Filter filter : query.filters()) {
+            if (filter != lookup) {
+                residual.add(filter);
+            }
+        }
+        return new QueryPlan(lookup, List.copyOf(residual), rows);
+    }
+
+    public QueryResult execute(Query query) {
+        QueryPlan plan = plan(query);
+        List<Player> source = plan.usesIndex()
+                ? plan.indexLookup().dimension().bucket(store, plan.indexLookup().value())
+                : players;
+        ScanCounter.add(source.size());
+        Filter[] filters = plan.residualFilters().toArray(new Filter[0]);
+        if (query.isGrouped()) {
+            return new QueryResult(List.of(), aggregate(query, source, filters), plan);
+        }
+        return new QueryResult(select(query, source, filters), List.of(), plan);
+    }
+
+    private static boolean matches(Player player, Filter[] filters) {
+        for (Filter filter : filters) {
+            if (!filter.test(player)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Player> select(Query query, List<Player> source, Filter[] filters) {
+        if (query.orderByMeasure() != null) {
+            Comparator<Player> order = Comparator.comparingInt(query.orderByMeasure()::of);
+            // Из равных первым остаётся встретившийся раньше, как при устойчивой сортировке
+            var top = new TopK<Player>(query.limit(), query.descending() ? order.reversed() : order);
+            for (Player player : source) {
+                if (matches(player, filters)) {
+                    top.offer(player);
+                }
+            }
+            return top.toList();
+        }
+        var selected = new ArrayList<Player>();
+        for (Player player : source) {
+            if (matches(player, filters)) {
+                selected.add(player);
+            }
+        }
+        return limit(selected, query.limit());
+    }
+
+    private static List<ResultRow> aggregate(Query query, List<Player> source, Filter[] filters) {
+        List<Aggregate> aggregates = query.aggregates();
+        Dimension groupBy = query.groupBy();
+        Map<Object, Aggregate.Accumulator[]> groups = new LinkedHashMap<>();
+        if (groupBy == null) {
+            // Агрегаты без группировки дают одну строку даже на пустом входе
+            groups.put(null, newAccumulators(aggregates));
+        }
+        for (Player player : source) {
+            if (!matches(player, filters)) {
+                continue;
+            }
+            Object key = groupBy == null ? null : groupBy.of(player);
+            var accumulators = groups.get(key);
+            if (accumulators == null) {
+                accumulators = newAccumulators(aggregates);
+                groups.put(key, accumulators);
+            }
+            for (var accumulator : accumulators) {
+                accumulator.accept(player);
+            }
+        }
+        var rows = new ArrayList<ResultRow>(groups.size());
+        groups.forEach((key, accumulators) -> {
+            var values = new ArrayList<>(accumulators.length);
+            for (var accumulator : accumulators) {
+                values.add(accumulator.result());
+            }
+            rows.add(new ResultRow(key, values));
+        });
+        Comparator<ResultRow> order = rowOrder(query);
+        if (order != null) {
+            return TopK.select(rows, query.limit(), order);
+        }
+        return limit(rows, query.limit());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<ResultRow> rowOrder(Query query) {
+        Comparator<ResultRow> byKey = Comparator.comparing(row -> (Comparable) row.key(),
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        if (query.orderByAggregate() >= 0) {
+            int index = query.orderByAggregate();
+            Comparator<ResultRow> byValue = Comparator.comparing(row -> (Comparable) row.value(index),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            return (query.descending() ? byValue.reversed() : byValue).thenComparing(byKey);
+        }
+        if (query.orderByKey()) {
+            return query.descending() ? byKey.reversed() : byKey;
+        }
+        return null;
+    }
+
+    private static Aggregate.Accumulator[] newAccumulators(List<Aggregate> aggregates) {
+        var accumulators = new Aggregate.Accumulator[aggregates.size()];
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = aggregates.get(i).newAccumulator();
+        }
+        return accumulators;
+    }
+
+    private static <T> List<T> limit(List<T> list, int limit) {
+        return list.size() <= limit ? list : new ArrayList<>(list.subList(0, limit));
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.query;
+
+import java.util.List;
+
+// Способ выполнения запроса: полный проход или проход по одной корзине индекса,
+// плюс условия, проверяемые на каждой прочитанной строке.
+public record QueryPlan(Filter indexLookup, List<Filter> residualFilters, int estimatedRows) {
+
+    public boolean usesIndex() {
+        return indexLookup != null;
+    }
+
+    public String explain() {
+        var access = usesIndex() ? "INDEX LOOKUP " + indexLookup : "FULL SCAN";
+        return access + " (" + estimatedRows + " rows)"
+                + (residualFilters.isEmpty() ? "" : " FILTER " + residualFilters);
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.query;
+
+import org.example.model.Player;
+
+import java.util.List;
+
+// players заполнен для запросов без группировки, rows - для запросов с группировкой или агрегатами
+public record QueryResult(List<Player> players, List<ResultRow> rows, QueryPlan plan) {
+}
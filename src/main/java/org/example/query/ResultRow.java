@@ -0,0 +1,19 @@
+package org.example.query;
+
+import java.util.List;
+
+// Группа результата: ключ группировки (null без группировки) и значения агрегатов по порядку
+public record ResultRow(Object key, List<Object> values) {
+
+    public Object value(int index) {
+        return values.get(index);
+    }
+
+    public long longValue(int index) {
+        return ((Number) values.get(index)).longValue();
+    }
+
+    public double doubleValue(int index) {
+        return ((Number) values.get(index)).doubleValue();
+    }
+}
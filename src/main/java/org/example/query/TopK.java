@@ -0,0 +1,143 @@
+package org.example.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Ограниченный отбор K лучших элементов без полной сортировки: куча на K элементов,
+// в корне которой лежит худший из отобранных. Порядок задаёт comparator - меньший
+// элемент лучше. Равные по comparator элементы упорядочены по порядку поступления,
+// так что результат совпадает с устойчивой сортировкой и limit(K).
+public final class TopK<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private Object[] elements;
+    private long[] sequence;
+    private int size;
+    private long offered;
+
+    public TopK(int k, Comparator<? super T> order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.order = order;
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        this.elements = new Object[capacity];
+        this.sequence = new long[capacity];
+    }
+
+    public static <T> List<T> select(Iterable<? extends T> items, int k, Comparator<? super T> order) {
+        var top = new TopK<T>(k, order);
+        for (T item : items) {
+            top.offer(item);
+        }
+        return top.toList();
+    }
+
+    // Для параллельных стримов: части объединяются по порядку, при равенстве выигрывает левая
+    public static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> order) {
+        Supplier<TopK<T>> supplier = () -> new TopK<>(k, order);
+        BiConsumer<TopK<T>, T> accumulator = TopK::offer;
+        BinaryOperator<TopK<T>> combiner = TopK::merge;
+        Function<TopK<T>, List<T>> finisher = TopK::toList;
+        return Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    public void offer(T item) {
+        long seq = offered++;
+        if (size < k) {
+            if (size == elements.length) {
+                int capacity = (int) Math.min(k, Math.max(INITIAL_CAPACITY, 2L * size));
+                elements = Arrays.copyOf(elements, capacity);
+                sequence = Arrays.copyOf(sequence, capacity);
+            }
+            siftUp(size++, item, seq);
+        } else if (k > 0 && compare(item, seq, 0) < 0) {
+            siftDown(0, item, seq);
+        }
+    }
+
+    public TopK<T> merge(TopK<T> other) {
+        for (T item : other.toList()) {
+            offer(item);
+        }
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Отобранные элементы от лучшего к худшему
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (a, b) -> {
+            int result = order.compare((T) elements[a], (T) elements[b]);
+            return result != 0 ? result : Long.compare(sequence[a], sequence[b]);
+        });
+        var result = new ArrayList<T>(size);
+        for (int index : indexes) {
+            result.add((T) elements[index]);
+        }
+        return result;
+    }
+
+    // Отрицательное значение - item лучше элемента кучи с индексом index
+    @SuppressWarnings("unchecked")
+    private int compare(T item, long seq, int index) {
+        int result = order.compare(item, (T) elements[index]);
+        return result != 0 ? result : Long.compare(seq, sequence[index]);
+    }
+
+    // Вверх поднимаются худшие: в корне кучи худший из отобранных
+    private void siftUp(int index, T item, long seq) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(item, seq, parent) <= 0) {
+                break;
+            }
+            elements[index] = elements[parent];
+            sequence[index] = sequence[parent];
+            index = parent;
+        }
+        elements[index] = item;
+        sequence[index] = seq;
+    }
+
+    private void siftDown(int index, T item, long seq) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && compareAt(right, child) > 0) {
+                child = right;
+            }
+            if (compare(item, seq, child) >= 0) {
+                break;
+            }
+            elements[index] = elements[child];
+            sequence[index] = sequence[child];
+            index = child;
+        }
+        elements[index] = item;
+        sequence[index] = seq;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareAt(int a, int b) {
+        return compare((T) elements[a], sequence[a], b);
+    }
+}
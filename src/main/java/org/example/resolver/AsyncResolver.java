@@ -0,0 +1,203 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Неблокирующая обёртка над IResolver: запросы выполняются на executor и возвращают CompletableFuture.
+// Одинаковые запросы к одной версии данных, пока первый не завершился, получают общий результат,
+// поэтому коллекции в ответах неизменяемые, как в CachingResolver.
+// По умолчанию используются виртуальные потоки, если JVM их поддерживает, иначе общий ForkJoinPool.
+public class AsyncResolver implements AutoCloseable {
+    private enum Query {
+        COUNT_WITHOUT_AGENCY,
+        MAX_DEFENDER_GOALS_COUNT,
+        EXPENSIVE_GERMAN_PLAYER_POSITION,
+        PLAYERS_BY_POSITION,
+        TEAMS,
+        TOP5_TEAMS_BY_GOALS_COUNT,
+        AGENCY_WITH_MIN_PLAYERS_COUNT,
+        RUDEST_TEAM,
+        ALL
+    }
+
+    private record Key(Query query, long version) {
+    }
+
+    private final IResolver delegate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder deduplicated = new LongAdder();
+    private final Map<Key, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    public AsyncResolver(IResolver delegate) {
+        this(builder(delegate));
+    }
+
+    private AsyncResolver(Builder builder) {
+        this.delegate = builder.delegate;
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = virtualThreadExecutor().orElse(null);
+            this.executor = ownedExecutor != null ? ownedExecutor : ForkJoinPool.commonPool();
+        }
+    }
+
+    public static Builder builder(IResolver delegate) {
+        return new Builder(delegate);
+    }
+
+    public static class Builder {
+        private final IResolver delegate;
+        private Executor executor;
+
+        private Builder(IResolver delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        }
+
+        // Чужой executor не закрывается в close()
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        public AsyncResolver build() {
+            return new AsyncResolver(this);
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() через рефлексию: проект собирается под Java 16
+    public static Optional<ExecutorService> virtualThreadExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    public IResolver getDelegate() {
+        return delegate;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // Сколько вызовов присоединилось к уже выполняющемуся запросу
+    public long getDeduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // Замена данных синхронная; запросы, начатые после неё, не объединяются с ранее начатыми
+    public void setPlayers(List<Player> players) {
+        delegate.setPlayers(players);
+        version.incrementAndGet();
+    }
+
+    public CompletableFuture<List<Player>> getPlayers() {
+        return CompletableFuture.supplyAsync(delegate::getPlayers, executor);
+    }
+
+    public CompletableFuture<Integer> getCountWithoutAgency() {
+        return submit(Query.COUNT_WITHOUT_AGENCY, delegate::getCountWithoutAgency);
+    }
+
+    public CompletableFuture<Integer> getMaxDefenderGoalsCount() {
+        return submit(Query.MAX_DEFENDER_GOALS_COUNT, delegate::getMaxDefenderGoalsCount);
+    }
+
+    public CompletableFuture<String> getTheExpensiveGermanPlayerPosition() {
+        return submit(Query.EXPENSIVE_GERMAN_PLAYER_POSITION, delegate::getTheExpensiveGermanPlayerPosition);
+    }
+
+    public CompletableFuture<Map<Position, List<String>>> getPlayersByPosition() {
+        return submit(Query.PLAYERS_BY_POSITION, () -> {
+            var result = new LinkedHashMap<Position, List<String>>();
+            delegate.getPlayersByPosition()
+                    .forEach((position, names) -> result.put(position, Collections.unmodifiableList(names)));
+            return Collections.unmodifiableMap(result);
+        });
+    }
+
+    public CompletableFuture<Set<String>> getTeams() {
+        return submit(Query.TEAMS, () -> Collections.unmodifiableSet(delegate.getTeams()));
+    }
+
+    public CompletableFuture<Map<String, Integer>> getTop5TeamsByGoalsCount() {
+        return submit(Query.TOP5_TEAMS_BY_GOALS_COUNT,
+                () -> Collections.unmodifiableMap(delegate.getTop5TeamsByGoalsCount()));
+    }
+
+    public CompletableFuture<String> getAgencyWithMinPlayersCount() {
+        return submit(Query.AGENCY_WITH_MIN_PLAYERS_COUNT, delegate::getAgencyWithMinPlayersCount);
+    }
+
+    public CompletableFuture<String> getTheRudestTeam() {
+        return submit(Query.RUDEST_TEAM, delegate::getTheRudestTeam);
+    }
+
+    public CompletableFuture<ResolverReport> computeAll() {
+        return submit(Query.ALL, delegate::computeAll);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> submit(Query query, Supplier<T> loader) {
+        var key = new Key(query, version.get());
+        var created = new CompletableFuture<T>();
+        var shared = (CompletableFuture<T>) inFlight.putIfAbsent(key, created);
+        if (shared != null) {
+            deduplicated.increment();
+        } else {
+            shared = created;
+            try {
+                CompletableFuture.supplyAsync(loader, executor).whenComplete((value, error) -> {
+                    // Убираем до завершения, чтобы дождавшийся ответа уже не присоединился к этому запросу
+                    inFlight.remove(key, created);
+                    if (error != null) {
+                        created.completeExceptionally(error);
+                    } else {
+                        created.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Например, RejectedExecutionException от закрытого executor
+                inFlight.remove(key, created);
+                created.completeExceptionally(e);
+            }
+        }
+        // Копия, чтобы отмена одним вызывающим не отменяла запрос остальным
+        return shared.copy();
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
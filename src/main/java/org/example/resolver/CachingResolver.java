@@ -0,0 +1,223 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Декоратор, запоминающий ответы любого IResolver для текущей версии набора данных.
+// setPlayers и invalidate увеличивают версию, и старые ответы больше не выдаются.
+// Если делегат реализует Versioned, ответ действителен ещё и только для его dataVersion;
+// данные остальных делегатов можно менять только через setPlayers/invalidate этого кеша.
+// Закешированные коллекции возвращаются неизменяемыми, так как их получают все вызывающие.
+public class CachingResolver implements IResolver {
+    private enum Query {
+        COUNT_WITHOUT_AGENCY,
+        MAX_DEFENDER_GOALS_COUNT,
+        EXPENSIVE_GERMAN_PLAYER_POSITION,
+        PLAYERS_BY_POSITION,
+        TEAMS,
+        TOP5_TEAMS_BY_GOALS_COUNT,
+        AGENCY_WITH_MIN_PLAYERS_COUNT,
+        RUDEST_TEAM,
+        ALL
+    }
+
+    private record CacheEntry(long version, long dataVersion, Object value, long createdAt) {
+    }
+
+    // evictions - вытеснены ограничением maxEntries, expirations - устарели по ttl или версии данных
+    public record Stats(long hits, long misses, long evictions, long expirations, long version) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private final IResolver delegate;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final Map<Query, CacheEntry> entries;
+
+    public CachingResolver(IResolver delegate) {
+        this(builder(delegate));
+    }
+
+    private CachingResolver(Builder builder) {
+        this.delegate = builder.delegate;
+        this.ttlNanos = builder.ttl == null ? Long.MAX_VALUE : builder.ttl.toNanos();
+        this.ticker = builder.ticker;
+        int maxEntries = builder.maxEntries;
+        // LRU по порядку доступа
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Query, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static Builder builder(IResolver delegate) {
+        return new Builder(delegate);
+    }
+
+    public static class Builder {
+        private final IResolver delegate;
+        private int maxEntries = Integer.MAX_VALUE;
+        private Duration ttl;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(IResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        // Источник времени в наносекундах, по умолчанию System.nanoTime
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CachingResolver build() {
+            return new CachingResolver(this);
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), version.get());
+    }
+
+    public void invalidate() {
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(Query query, Supplier<T> loader) {
+        long expectedVersion = version.get();
+        long expectedDataVersion = dataVersion();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(query);
+            if (entry != null) {
+                if (entry.version() == expectedVersion && entry.dataVersion() == expectedDataVersion
+                        && ticker.getAsLong() - entry.createdAt() < ttlNanos) {
+                    hits.increment();
+                    return (T) entry.value();
+                }
+                entries.remove(query);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        T value = loader.get();
+        synchronized (entries) {
+            // Ответ, посчитанный по уже заменённым данным, не сохраняем
+            if (version.get() == expectedVersion && dataVersion() == expectedDataVersion) {
+                entries.put(query, new CacheEntry(expectedVersion, expectedDataVersion, value, ticker.getAsLong()));
+            }
+        }
+        return value;
+    }
+
+    private long dataVersion() {
+        return delegate instanceof Versioned versioned ? versioned.dataVersion() : 0;
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return delegate.getPlayers();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        delegate.setPlayers(players);
+        invalidate();
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        return cached(Query.COUNT_WITHOUT_AGENCY, delegate::getCountWithoutAgency);
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        return cached(Query.MAX_DEFENDER_GOALS_COUNT, delegate::getMaxDefenderGoalsCount);
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        return cached(Query.EXPENSIVE_GERMAN_PLAYER_POSITION, delegate::getTheExpensiveGermanPlayerPosition);
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        return cached(Query.PLAYERS_BY_POSITION, () -> {
+            var result = new LinkedHashMap<Position, List<String>>();
+            delegate.getPlayersByPosition()
+                    .forEach((position, names) -> result.put(position, Collections.unmodifiableList(names)));
+            return Collections.unmodifiableMap(result);
+        });
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        return cached(Query.TEAMS, () -> Collections.unmodifiableSet(delegate.getTeams()));
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        return cached(Query.TOP5_TEAMS_BY_GOALS_COUNT,
+                () -> Collections.unmodifiableMap(delegate.getTop5TeamsByGoalsCount()));
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        return cached(Query.AGENCY_WITH_MIN_PLAYERS_COUNT, delegate::getAgencyWithMinPlayersCount);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        return cached(Query.RUDEST_TEAM, delegate::getTheRudestTeam);
+    }
+
+    @Override
+    public ResolverReport computeAll() {
+        return cached(Query.ALL, delegate::computeAll);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.resolver;
+
+import org.example.kernel.ColumnKernels;
+import org.example.kernel.Kernels;
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.PlayerTable;
+import org.example.table.StringDictionary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// IResolver поверх колоночной PlayerTable: запросы - линейные проходы по примитивным массивам,
+// группировки - по id словаря вместо хеширования строк. Фильтры и агрегаты считают ColumnKernels
+// (по умолчанию Kernels.best(): Vector API, если модуль подключён).
+public class ColumnarResolver implements IResolver, Versioned {
+    private static final String GERMANY = "Germany";
+
+    private final ColumnKernels kernels;
+    private volatile PlayerTable table;
+    private volatile long dataVersion;
+
+    public ColumnarResolver(PlayerTable table) {
+        this(table, Kernels.best());
+    }
+
+    public ColumnarResolver(PlayerTable table, ColumnKernels kernels) {
+        this.table = table;
+        this.kernels = kernels;
+    }
+
+    public ColumnarResolver(List<Player> players) {
+        this(PlayerTable.of(players));
+    }
+
+    public PlayerTable getTable() {
+        return table;
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return table.toPlayers();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        this.table = PlayerTable.of(players);
+        dataVersion++;
+    }
+
+    @Override
+    public long dataVersion() {
+        return dataVersion;
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        var table = scan();
+        int emptyId = table.agencyDictionary().find("");
+        return kernels.countEither(table.agencyColumn(), StringDictionary.NULL_ID, emptyId);
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        var table = scan();
+        byte defender = (byte) Position.DEFENDER.ordinal();
+        long max = kernels.maxWhere(table.positionColumn(), defender, table.goalsColumn());
+        return max == Long.MIN_VALUE ? 0 : (int) max;
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        var table = this.table;
+        int germany = table.nationalityDictionary().find(GERMANY);
+        if (germany == StringDictionary.NULL_ID) {
+            return null;
+        }
+        ScanCounter.add(table.size());
+        int best = kernels.argMaxWhere(table.nationalityColumn(), germany, table.transferCostColumn());
+        return best < 0 ? null : Rankings.positionName(table.position(best));
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        var table = scan();
+        Map<Position, List<String>> result = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            result.computeIfAbsent(table.position(row), position -> new ArrayList<>()).add(table.name(row));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        var table = scan();
+        var teams = new HashSet<>(table.teamDictionary().values());
+        if (hasNullTeam(table)) {
+            teams.add(null);
+        }
+        return teams;
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        var table = scan();
+        var dictionary = table.teamDictionary();
+        long[] goals = new long[dictionary.size() + 1];
+        kernels.sumByKey(table.teamColumn(), table.goalsColumn(), goals);
+        Map<String, Integer> goalsByTeam = new HashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            goalsByTeam.put(dictionary.valueOf(id), (int) goals[id + 1]);
+        }
+        if (hasNullTeam(table)) {
+            goalsByTeam.put(null, (int) goals[0]);
+        }
+        return Rankings.topTeamsByGoals(goalsByTeam);
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        var table = scan();
+        var dictionary = table.agencyDictionary();
+        int emptyId = dictionary.find("");
+        long[] counts = new long[dictionary.size() + 1];
+        kernels.countByKey(table.agencyColumn(), counts);
+        // Ключи добавляются в порядке первого появления, как у groupingBy в Streams; без агентства не считаем
+        Map<String, Long> playersByAgency = new HashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            if (id != emptyId) {
+                playersByAgency.put(dictionary.valueOf(id), counts[id + 1]);
+            }
+        }
+        return Rankings.agencyWithMinPlayers(playersByAgency);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        var table = scan();
+        var dictionary = table.teamDictionary();
+        long[] redCards = new long[dictionary.size() + 1];
+        long[] players = new long[dictionary.size() + 1];
+        kernels.sumByKey(table.teamColumn(), table.redCardsColumn(), redCards);
+        kernels.countByKey(table.teamColumn(), players);
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            redCardsByTeam.put(dictionary.valueOf(id), (double) redCards[id + 1] / players[id + 1]);
+        }
+        // Игроки без команды - отдельная группа null, как в Streams
+        if (players[0] > 0) {
+            redCardsByTeam.put(null, (double) redCards[0] / players[0]);
+        }
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+
+    // Текущая таблица; запрос, который её читает, учитывает все её строки
+    private PlayerTable scan() {
+        var current = table;
+        ScanCounter.add(current.size());
+        return current;
+    }
+
+    private boolean hasNullTeam(PlayerTable table) {
+        return kernels.countEither(table.teamColumn(), StringDictionary.NULL_ID, StringDictionary.NULL_ID) > 0;
+    }
+}
@@ -11,6 +11,9 @@ public interface IResolver {
 
     List<Player> getPlayers();
 
+    // Заменяет набор данных
+    void setPlayers(List<Player> players);
+
     // Выведите количество игроков, интересы которых не представляет агентство.
     int getCountWithoutAgency();
 
@@ -34,4 +37,18 @@ public interface IResolver {
 
     // Выберите команду с наибольшим средним числом удалений на одного игрока.
     String getTheRudestTeam();
+
+    // Ответы на все вопросы сразу; реализация может посчитать их за один проход по данным.
+    default ResolverReport computeAll() {
+        return new ResolverReport(
+                getCountWithoutAgency(),
+                getMaxDefenderGoalsCount(),
+                getTheExpensiveGermanPlayerPosition(),
+                getPlayersByPosition(),
+                getTeams(),
+                getTop5TeamsByGoalsCount(),
+                getAgencyWithMinPlayersCount(),
+                getTheRudestTeam()
+        );
+    }
 }
\ No newline at end of file
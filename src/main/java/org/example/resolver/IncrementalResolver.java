@@ -0,0 +1,315 @@
+package org.example.resolver;
+
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// Резолвер, который поддерживает агрегаты при добавлении, удалении и изменении игроков
+// вместо пересчёта по всему списку. Ответы берутся из упорядоченных индексов за O(1) или
+// O(log n); только при равенстве лидеров выбор делегируется Rankings по всем командам
+// (агентствам), чтобы ничьи разрешались так же, как в Streams.
+public class IncrementalResolver implements IResolver, Versioned {
+    private static final String GERMANY = "Germany";
+
+    private static final Comparator<String> NAMES = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<TeamStats> BY_GOALS = Comparator.<TeamStats>comparingInt(stats -> stats.goals).reversed()
+            .thenComparing(stats -> stats.team, NAMES);
+    private static final Comparator<TeamStats> BY_RED_CARDS = Comparator.<TeamStats>comparingDouble(TeamStats::averageRedCards).reversed()
+            .thenComparing(stats -> stats.team, NAMES);
+    private static final Comparator<AgencyStats> BY_PLAYERS = Comparator.<AgencyStats>comparingLong(stats -> stats.players)
+            .thenComparing(stats -> stats.agency, NAMES);
+    private static final Comparator<Row> BY_TRANSFER_COST = Comparator.<Row>comparingInt(row -> row.player().transferCost()).reversed()
+            .thenComparingLong(Row::id);
+
+    private record Row(long id, Player player) {
+    }
+
+    private static class TeamStats {
+        final String team;
+        int goals;
+        long redCards;
+        int players;
+
+        TeamStats(String team) {
+            this.team = team;
+        }
+
+        double averageRedCards() {
+            return (double) redCards / players;
+        }
+    }
+
+    private static class AgencyStats {
+        final String agency;
+        long players;
+
+        AgencyStats(String agency) {
+            this.agency = agency;
+        }
+    }
+
+    private long nextId;
+    private long dataVersion;
+    // Игроки в порядке добавления; изменение игрока сохраняет его место
+    private final LinkedHashMap<Long, Player> rows = new LinkedHashMap<>();
+    private final Map<Player, TreeSet<Long>> idsByPlayer = new HashMap<>();
+
+    private int countWithoutAgency;
+    private final TreeMap<Integer, Integer> defenderGoals = new TreeMap<>();
+    private final TreeSet<Row> germans = new TreeSet<>(BY_TRANSFER_COST);
+    private final Map<Position, TreeMap<Long, String>> namesByPosition = new EnumMap<>(Position.class);
+    private final LinkedHashMap<String, TeamStats> teams = new LinkedHashMap<>();
+    private final TreeSet<TeamStats> teamsByGoals = new TreeSet<>(BY_GOALS);
+    private final TreeSet<TeamStats> teamsByRedCards = new TreeSet<>(BY_RED_CARDS);
+    private final LinkedHashMap<String, AgencyStats> agencies = new LinkedHashMap<>();
+    private final TreeSet<AgencyStats> agenciesByPlayers = new TreeSet<>(BY_PLAYERS);
+
+    public IncrementalResolver() {
+    }
+
+    public IncrementalResolver(List<Player> players) {
+        setPlayers(players);
+    }
+
+    @Override
+    public synchronized void setPlayers(List<Player> players) {
+        dataVersion++;
+        nextId = 0;
+        rows.clear();
+        idsByPlayer.clear();
+        countWithoutAgency = 0;
+        defenderGoals.clear();
+        germans.clear();
+        namesByPosition.clear();
+        teams.clear();
+        teamsByGoals.clear();
+        teamsByRedCards.clear();
+        agencies.clear();
+        agenciesByPlayers.clear();
+        if (players != null) {
+            players.forEach(this::add);
+        }
+    }
+
+    public synchronized void add(Player player) {
+        long id = nextId++;
+        dataVersion++;
+        rows.put(id, player);
+        idsByPlayer.computeIfAbsent(player, key -> new TreeSet<>()).add(id);
+        include(id, player);
+    }
+
+    // Пачка новых игроков под одной блокировкой: читатели видят либо всю пачку, либо ничего
+    public synchronized void addAll(Collection<Player> players) {
+        players.forEach(this::add);
+    }
+
+    // Удаляет первое вхождение игрока, как List.remove(Object)
+    public synchronized boolean remove(Player player) {
+        Long id = firstId(player);
+        if (id == null) {
+            return false;
+        }
+        dataVersion++;
+        rows.remove(id);
+        forgetId(player, id);
+        exclude(id, player);
+        return true;
+    }
+
+    // Заменяет первое вхождение oldPlayer на newPlayer на том же месте, как List.set
+    public synchronized boolean update(Player oldPlayer, Player newPlayer) {
+        Long id = firstId(oldPlayer);
+        if (id == null) {
+            return false;
+        }
+        dataVersion++;
+        exclude(id, oldPlayer);
+        forgetId(oldPlayer, id);
+        rows.put(id, newPlayer);
+        idsByPlayer.computeIfAbsent(newPlayer, key -> new TreeSet<>()).add(id);
+        include(id, newPlayer);
+        return true;
+    }
+
+    private Long firstId(Player player) {
+        var ids = idsByPlayer.get(player);
+        return ids == null ? null : ids.first();
+    }
+
+    private void forgetId(Player player, long id) {
+        var ids = idsByPlayer.get(player);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByPlayer.remove(player);
+        }
+    }
+
+    private void include(long id, Player player) {
+        if (isWithoutAgency(player)) {
+            countWithoutAgency++;
+        } else {
+            var stats = agencies.computeIfAbsent(player.agency(), AgencyStats::new);
+            agenciesByPlayers.remove(stats);
+            stats.players++;
+            agenciesByPlayers.add(stats);
+        }
+        if (player.position() == Position.DEFENDER) {
+            defenderGoals.merge(player.goals(), 1, Integer::sum);
+        }
+        if (GERMANY.equals(player.nationality())) {
+            germans.add(new Row(id, player));
+        }
+        namesByPosition.computeIfAbsent(player.position(), position -> new TreeMap<>()).put(id, player.name());
+
+        var stats = teams.computeIfAbsent(player.team(), TeamStats::new);
+        teamsByGoals.remove(stats);
+        teamsByRedCards.remove(stats);
+        stats.goals += player.goals();
+        stats.redCards += player.redCards();
+        stats.players++;
+        teamsByGoals.add(stats);
+        teamsByRedCards.add(stats);
+    }
+
+    private void exclude(long id, Player player) {
+        if (isWithoutAgency(player)) {
+            countWithoutAgency--;
+        } else {
+            var stats = agencies.get(player.agency());
+            agenciesByPlayers.remove(stats);
+            if (--stats.players == 0) {
+                agencies.remove(player.agency());
+            } else {
+                agenciesByPlayers.add(stats);
+            }
+        }
+        if (player.position() == Position.DEFENDER) {
+            defenderGoals.computeIfPresent(player.goals(), (goals, count) -> count == 1 ? null : count - 1);
+        }
+        if (GERMANY.equals(player.nationality())) {
+            germans.remove(new Row(id, player));
+        }
+        var names = namesByPosition.get(player.position());
+        names.remove(id);
+        if (names.isEmpty()) {
+            namesByPosition.remove(player.position());
+        }
+
+        var stats = teams.get(player.team());
+        teamsByGoals.remove(stats);
+        teamsByRedCards.remove(stats);
+        stats.goals -= player.goals();
+        stats.redCards -= player.redCards();
+        if (--stats.players == 0) {
+            teams.remove(player.team());
+        } else {
+            teamsByGoals.add(stats);
+            teamsByRedCards.add(stats);
+        }
+    }
+
+    private static boolean isWithoutAgency(Player player) {
+        return player.agency() == null || player.agency().isEmpty();
+    }
+
+    @Override
+    public synchronized long dataVersion() {
+        return dataVersion;
+    }
+
+    // Число игроков без копирования списка
+    public synchronized int size() {
+        return rows.size();
+    }
+
+    @Override
+    public synchronized List<Player> getPlayers() {
+        return new ArrayList<>(rows.values());
+    }
+
+    @Override
+    public synchronized int getCountWithoutAgency() {
+        return countWithoutAgency;
+    }
+
+    @Override
+    public synchronized int getMaxDefenderGoalsCount() {
+        return defenderGoals.isEmpty() ? 0 : defenderGoals.lastKey();
+    }
+
+    @Override
+    public synchronized String getTheExpensiveGermanPlayerPosition() {
+        return germans.isEmpty() ? null : Rankings.positionName(germans.first().player().position());
+    }
+
+    @Override
+    public synchronized Map<Position, List<String>> getPlayersByPosition() {
+        // Единственный запрос, который копирует данные каждого игрока
+        ScanCounter.add(rows.size());
+        Map<Position, List<String>> result = new HashMap<>();
+        namesByPosition.forEach((position, names) -> result.put(position, new ArrayList<>(names.values())));
+        return result;
+    }
+
+    @Override
+    public synchronized Set<String> getTeams() {
+        return new HashSet<>(teams.keySet());
+    }
+
+    @Override
+    public synchronized Map<String, Integer> getTop5TeamsByGoalsCount() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (TeamStats stats : teamsByGoals) {
+            if (result.size() == Rankings.TOP_TEAMS_LIMIT) {
+                break;
+            }
+            result.put(stats.team, stats.goals);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized String getAgencyWithMinPlayersCount() {
+        if (agenciesByPlayers.isEmpty()) {
+            return null;
+        }
+        var first = agenciesByPlayers.first();
+        var second = agenciesByPlayers.higher(first);
+        if (second == null || second.players != first.players) {
+            return first.agency;
+        }
+        Map<String, Long> playersByAgency = new HashMap<>();
+        agencies.forEach((agency, stats) -> playersByAgency.put(agency, stats.players));
+        return Rankings.agencyWithMinPlayers(playersByAgency);
+    }
+
+    @Override
+    public synchronized String getTheRudestTeam() {
+        if (teamsByRedCards.isEmpty()) {
+            return "";
+        }
+        var first = teamsByRedCards.first();
+        var second = teamsByRedCards.higher(first);
+        if (second == null || second.averageRedCards() != first.averageRedCards()) {
+            // Команда null даёт "", как Rankings.rudestTeam
+            return first.team == null ? "" : first.team;
+        }
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        teams.forEach((team, stats) -> redCardsByTeam.put(team, stats.averageRedCards()));
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.resolver;
+
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.IndexedPlayerStore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// IResolver поверх IndexedPlayerStore: фильтрующие запросы просматривают только
+// подходящую корзину индекса, а группировки уже готовы в индексах по команде и агентству.
+public class IndexedResolver implements IResolver {
+    private static final String GERMANY = "Germany";
+
+    private IndexedPlayerStore store;
+
+    public IndexedResolver(IndexedPlayerStore store) {
+        this.store = store;
+    }
+
+    public IndexedResolver(List<Player> players) {
+        this(new IndexedPlayerStore(players));
+    }
+
+    public IndexedPlayerStore getStore() {
+        return store;
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return store.players();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        this.store = new IndexedPlayerStore(players);
+    }
+
+    // Самый дорогой игрок страны; из равных по стоимости - первый
+    public Optional<Player> getMostExpensivePlayer(String nationality) {
+        var players = store.byNationality(nationality);
+        ScanCounter.add(players.size());
+        Player best = null;
+        for (Player player : players) {
+            if (best == null || player.transferCost() > best.transferCost()) {
+                best = player;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public int getMaxGoalsCount(Position position) {
+        var players = store.byPosition(position);
+        ScanCounter.add(players.size());
+        int max = 0;
+        boolean found = false;
+        for (Player player : players) {
+            if (!found || player.goals() > max) {
+                max = player.goals();
+                found = true;
+            }
+        }
+        return max;
+    }
+
+    public List<Player> getPlayersOfTeam(String team) {
+        return store.byTeam(team);
+    }
+
+    public List<Player> getPlayersOfAgency(String agency) {
+        return store.byAgency(agency);
+    }
+
+    public List<Player> getPlayersOfNationality(String nationality) {
+        return store.byNationality(nationality);
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        return store.byAgency(null).size() + store.byAgency("").size();
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        return getMaxGoalsCount(Position.DEFENDER);
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        return getMostExpensivePlayer(GERMANY)
+                .map(player -> Rankings.positionName(player.position()))
+                .orElse(null);
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        Map<Position, List<String>> result = new HashMap<>();
+        ScanCounter.add(store.size());
+        store.positionIndex().forEach((position, players) -> {
+            var names = new ArrayList<String>(players.size());
+            players.forEach(player -> names.add(player.name()));
+            result.put(position, names);
+        });
+        return result;
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        return new HashSet<>(store.teamIndex().keySet());
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        Map<String, Integer> goalsByTeam = new HashMap<>();
+        ScanCounter.add(store.size());
+        store.teamIndex().forEach((team, players) -> {
+            int goals = 0;
+            for (Player player : players) {
+                goals += player.goals();
+            }
+            goalsByTeam.put(team, goals);
+        });
+        return Rankings.topTeamsByGoals(goalsByTeam);
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        Map<String, Long> playersByAgency = new HashMap<>();
+        store.agencyIndex().forEach((agency, players) -> {
+            if (agency != null && !agency.isEmpty()) {
+                playersByAgency.put(agency, (long) players.size());
+            }
+        });
+        return Rankings.agencyWithMinPlayers(playersByAgency);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        ScanCounter.add(store.size());
+        store.teamIndex().forEach((team, players) -> {
+            long redCards = 0;
+            for (Player player : players) {
+                redCards += player.redCards();
+            }
+            redCardsByTeam.put(team, (double) redCards / players.size());
+        });
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+}
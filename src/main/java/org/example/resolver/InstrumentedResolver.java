@@ -0,0 +1,93 @@
+package org.example.resolver;
+
+import org.example.metrics.Metrics;
+import org.example.metrics.ScanCounter;
+import org.example.metrics.Stopwatch;
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Декоратор, замеряющий каждый запрос IResolver: задержку, число строк, которые делегат
+// реально прочитал (по ScanCounter: попадание в индекс, кеш или агрегаты даёт меньше полного прохода),
+// и выделенную вызывающим потоком память.
+public class InstrumentedResolver implements IResolver {
+    private final IResolver delegate;
+    private final Metrics metrics;
+
+    public InstrumentedResolver(IResolver delegate) {
+        this(delegate, Metrics.global());
+    }
+
+    public InstrumentedResolver(IResolver delegate, Metrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return delegate.getPlayers();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        delegate.setPlayers(players);
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        return measure("getCountWithoutAgency", delegate::getCountWithoutAgency);
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        return measure("getMaxDefenderGoalsCount", delegate::getMaxDefenderGoalsCount);
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        return measure("getTheExpensiveGermanPlayerPosition", delegate::getTheExpensiveGermanPlayerPosition);
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        return measure("getPlayersByPosition", delegate::getPlayersByPosition);
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        return measure("getTeams", delegate::getTeams);
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        return measure("getTop5TeamsByGoalsCount", delegate::getTop5TeamsByGoalsCount);
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        return measure("getAgencyWithMinPlayersCount", delegate::getAgencyWithMinPlayersCount);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        return measure("getTheRudestTeam", delegate::getTheRudestTeam);
+    }
+
+    @Override
+    public ResolverReport computeAll() {
+        return measure("computeAll", delegate::computeAll);
+    }
+
+    private <T> T measure(String query, Supplier<T> call) {
+        long scanned = ScanCounter.current();
+        var stopwatch = Stopwatch.start();
+        T result = call.get();
+        long nanos = stopwatch.elapsedNanos();
+        metrics.recordQuery(query, nanos, ScanCounter.current() - scanned, stopwatch.allocatedBytes());
+        return result;
+    }
+}
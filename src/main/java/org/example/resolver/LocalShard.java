@@ -0,0 +1,54 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+
+import java.util.Collections;
+import java.util.List;
+
+// Шард в памяти текущего процесса: свои игроки, номера их строк в исходном наборе
+// и собственный резолвер. Данные не меняются, поэтому агрегаты считаются один раз.
+public class LocalShard implements Shard {
+    private final int[] rows;
+    private final List<Player> players;
+    private final IResolver resolver;
+    private volatile ShardPartial partial;
+
+    public LocalShard(int[] rows, List<Player> players) {
+        if (rows.length != players.size()) {
+            throw new IllegalArgumentException("rows and players differ in size: " + rows.length + " != " + players.size());
+        }
+        this.rows = rows;
+        this.players = Collections.unmodifiableList(players);
+        this.resolver = new Streams(this.players);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    int row(int index) {
+        return rows[index];
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    // Ответы только по игрокам этого шарда
+    public IResolver getResolver() {
+        return resolver;
+    }
+
+    @Override
+    public ShardPartial aggregate() {
+        var result = partial;
+        if (result == null) {
+            result = new ShardPartial();
+            for (int i = 0; i < rows.length; i++) {
+                result.accept(rows[i], players.get(i));
+            }
+            partial = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.resolver;
+
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.OffHeapDictionary;
+import org.example.table.OffHeapPlayerStore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// IResolver поверх OffHeapPlayerStore: те же проходы, что в ColumnarResolver, но по записям
+// в прямых буферах; строки декодируются только для попавших в ответ игроков и команд.
+public class OffHeapResolver implements IResolver {
+    private static final String GERMANY = "Germany";
+
+    private OffHeapPlayerStore store;
+
+    public OffHeapResolver(OffHeapPlayerStore store) {
+        this.store = store;
+    }
+
+    public OffHeapResolver(List<Player> players) {
+        this(OffHeapPlayerStore.of(players));
+    }
+
+    public OffHeapPlayerStore getStore() {
+        return store;
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return store.toPlayers();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        this.store = OffHeapPlayerStore.of(players);
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        int emptyId = store.agencyDictionary().find("");
+        ScanCounter.add(store.size());
+        int count = 0;
+        for (int row = 0; row < store.size(); row++) {
+            int agency = store.agencyId(row);
+            if (agency == OffHeapDictionary.NULL_ID || agency == emptyId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        byte defender = (byte) Position.DEFENDER.ordinal();
+        int max = 0;
+        boolean found = false;
+        ScanCounter.add(store.size());
+        for (int row = 0; row < store.size(); row++) {
+            if (store.positionOrdinal(row) == defender && (!found || store.goals(row) > max)) {
+                max = store.goals(row);
+                found = true;
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        int germany = store.nationalityDictionary().find(GERMANY);
+        if (germany == OffHeapDictionary.NULL_ID) {
+            return null;
+        }
+        ScanCounter.add(store.size());
+        int best = -1;
+        for (int row = 0; row < store.size(); row++) {
+            if (store.nationalityId(row) == germany
+                    && (best < 0 || store.transferCost(row) > store.transferCost(best))) {
+                best = row;
+            }
+        }
+        return best < 0 ? null : Rankings.positionName(store.position(best));
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        Map<Position, List<String>> result = new HashMap<>();
+        ScanCounter.add(store.size());
+        for (int row = 0; row < store.size(); row++) {
+            result.computeIfAbsent(store.position(row), position -> new ArrayList<>()).add(store.name(row));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        var teams = new HashSet<>(store.teamDictionary().values());
+        // Проход останавливается на первом игроке без команды
+        int row = 0;
+        while (row < store.size() && store.teamId(row) != OffHeapDictionary.NULL_ID) {
+            row++;
+        }
+        if (row < store.size()) {
+            teams.add(null);
+            row++;
+        }
+        ScanCounter.add(row);
+        return teams;
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        var dictionary = store.teamDictionary();
+        // Ячейка 0 - игроки без команды (NULL_ID), остальные сдвинуты на единицу
+        int[] goals = new int[dictionary.size() + 1];
+        int[] players = new int[dictionary.size() + 1];
+        ScanCounter.add(store.size());
+        for (int row = 0; row < store.size(); row++) {
+            int team = store.teamId(row) + 1;
+            goals[team] += store.goals(row);
+            players[team]++;
+        }
+        Map<String, Integer> goalsByTeam = new HashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            goalsByTeam.put(dictionary.valueOf(id), goals[id + 1]);
+        }
+        if (players[0] > 0) {
+            goalsByTeam.put(null, goals[0]);
+        }
+        return Rankings.topTeamsByGoals(goalsByTeam);
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        var dictionary = store.agencyDictionary();
+        int emptyId = dictionary.find("");
+        long[] counts = new long[dictionary.size()];
+        ScanCounter.add(store.size());
+        for (int row = 0; row < store.size(); row++) {
+            int agency = store.agencyId(row);
+            if (agency != OffHeapDictionary.NULL_ID) {
+                counts[agency]++;
+            }
+        }
+        // Ключи добавляются в порядке первого появления, как у groupingBy в Streams
+        Map<String, Long> playersByAgency = new HashMap<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (id != emptyId) {
+                playersByAgency.put(dictionary.valueOf(id), counts[id]);
+            }
+        }
+        return Rankings.agencyWithMinPlayers(playersByAgency);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        var dictionary = store.teamDictionary();
+        long[] redCards = new long[dictionary.size() + 1];
+        int[] players = new int[dictionary.size() + 1];
+        ScanCounter.add(store.size());
+        for (int row = 0; row < store.size(); row++) {
+            int team = store.teamId(row) + 1;
+            redCards[team] += store.redCards(row);
+            players[team]++;
+        }
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            redCardsByTeam.put(dictionary.valueOf(id), (double) redCards[id + 1] / players[id + 1]);
+        }
+        if (players[0] > 0) {
+            redCardsByTeam.put(null, (double) redCards[0] / players[0]);
+        }
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.resolver;
+
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.ObjectIntMap;
+import org.example.table.ObjectLongMap;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Те же запросы, что в Streams, но на параллельных стримах в заданном ForkJoinPool.
+// Там, где порядок не важен (счётчики, максимум, множество команд, суммы голов для топа,
+// который упорядочен по значению и названию), стримы неупорядоченные. Суммы по ключам
+// копятся в отдельных ObjectIntMap/ObjectLongMap на каждую часть стрима и затем сливаются:
+// общая конкурентная карта не допускает ключ null и даёт конкуренцию на горячих ключах.
+// Для ответов, зависящих от порядка (списки по позициям, ничьи в агентствах и командах),
+// частичные результаты сливаются слева направо, как при последовательном проходе.
+public class ParallelStreams implements IResolver, AutoCloseable {
+    private static final String GERMANY = "Germany";
+
+    private List<Player> players;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    public ParallelStreams(List<Player> players) {
+        this(players, ForkJoinPool.commonPool(), false);
+    }
+
+    public ParallelStreams(List<Player> players, int parallelism) {
+        this(players, new ForkJoinPool(parallelism), true);
+    }
+
+    public ParallelStreams(List<Player> players, ForkJoinPool pool) {
+        this(players, pool, false);
+    }
+
+    private ParallelStreams(List<Player> players, ForkJoinPool pool, boolean ownsPool) {
+        this.players = players;
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    private static class Totals {
+        long count;
+        long sum;
+
+        Totals add(Totals other) {
+            count += other.count;
+            sum += other.sum;
+            return this;
+        }
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        this.players = players;
+    }
+
+    // Параллельный стрим выполняется в пуле того потока, из которого вызвана терминальная операция
+    // Каждый запрос - полный проход, строки учитываются в ScanCounter вызывающего потока
+    private <T> T run(Supplier<T> query) {
+        ScanCounter.add(players.size());
+        if (pool == ForkJoinPool.commonPool() || ForkJoinTask.getPool() == pool) {
+            return query.get();
+        }
+        Callable<T> task = query::get;
+        return pool.invoke(ForkJoinTask.adapt(task));
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        if (players == null) return 0;
+        return run(() -> (int) players.parallelStream()
+                .unordered()
+                .filter(player -> player.agency() == null || player.agency().isEmpty())
+                .count());
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        if (players == null) return 0;
+        return run(() -> players.parallelStream()
+                .unordered()
+                .filter(player -> player.position() == Position.DEFENDER)
+                .mapToInt(Player::goals)
+                .max()
+                .orElse(0));
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        if (players == null) return null;
+        // Упорядоченный max оставляет первого из равных, как и последовательный
+        Player expensiveGerman = run(() -> players.parallelStream()
+                .filter(player -> GERMANY.equals(player.nationality()))
+                .max((player1, player2) -> Integer.compare(player1.transferCost(), player2.transferCost()))
+                .orElse(null));
+        return expensiveGerman == null ? null : Rankings.positionName(expensiveGerman.position());
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        if (players == null) return new HashMap<>();
+        return run(() -> players.parallelStream()
+                .collect(Collectors.groupingBy(
+                        Player::position,
+                        Collectors.mapping(Player::name, Collectors.toList())
+                )));
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        if (players == null) return new HashSet<>();
+        return run(() -> players.parallelStream()
+                .unordered()
+                .map(Player::team)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        if (players == null) return new HashMap<>();
+        ObjectIntMap<String> goals = run(() -> players.parallelStream()
+                .unordered()
+                .collect(ObjectIntMap::new,
+                        (totals, player) -> totals.addTo(player.team(), player.goals()),
+                        ObjectIntMap::addAll));
+        return Rankings.topTeamsByGoals(goals, Rankings.TOP_TEAMS_LIMIT);
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        if (players == null) return null;
+        ObjectLongMap<String> counts = run(() -> players.parallelStream()
+                .filter(player -> player.agency() != null && !player.agency().isEmpty())
+                .collect(ObjectLongMap::new,
+                        (totals, player) -> totals.addTo(player.agency(), 1),
+                        ObjectLongMap::addAll));
+        return Rankings.agencyWithMinPlayers(counts);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        if (players == null) return "";
+        Map<String, Totals> totalsByTeam = run(() -> players.parallelStream()
+                .collect(LinkedHashMap::new,
+                        (totals, player) -> {
+                            var team = totals.computeIfAbsent(player.team(), key -> new Totals());
+                            team.count++;
+                            team.sum += player.redCards();
+                        },
+                        ParallelStreams::mergeInOrder));
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        totalsByTeam.forEach((team, totals) -> redCardsByTeam.put(team, (double) totals.sum / totals.count));
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+
+    @Override
+    public ResolverReport computeAll() {
+        if (players == null) return new PlayerAggregates().report();
+        return run(() -> players.parallelStream()
+                .collect(PlayerAggregates::new, PlayerAggregates::accept, PlayerAggregates::combine))
+                .report();
+    }
+
+    // Правая часть содержит более поздних игроков, поэтому её новые ключи идут после левых
+    private static void mergeInOrder(LinkedHashMap<String, Totals> left, LinkedHashMap<String, Totals> right) {
+        right.forEach((key, totals) -> left.merge(key, totals, Totals::add));
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.ObjectIndex;
+import org.example.table.ObjectLongMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+// Накопитель всех метрик IResolver за один проход по игрокам.
+// Команды и агентства хранятся в порядке первого появления, чтобы ничьи
+// разрешались так же, как в Streams.
+public class PlayerAggregates {
+    private static final String GERMANY = "Germany";
+
+    private int countWithoutAgency;
+    private boolean hasDefender;
+    private int maxDefenderGoals;
+    private Player expensiveGerman;
+    private final Map<Position, List<String>> playersByPosition = new HashMap<>();
+    // Суммы по командам лежат в массивах по номеру команды в teams
+    private final ObjectIndex<String> teams = new ObjectIndex<>();
+    private int[] teamGoals = new int[16];
+    private long[] teamRedCards = new long[16];
+    private int[] teamPlayers = new int[16];
+    private final ObjectLongMap<String> agencies = new ObjectLongMap<>();
+
+    public void accept(Player player) {
+        String agency = player.agency();
+        if (agency == null || agency.isEmpty()) {
+            countWithoutAgency++;
+        } else {
+            agencies.addTo(agency, 1);
+        }
+        if (player.position() == Position.DEFENDER && (!hasDefender || player.goals() > maxDefenderGoals)) {
+            maxDefenderGoals = player.goals();
+            hasDefender = true;
+        }
+        if (GERMANY.equals(player.nationality())
+                && (expensiveGerman == null || player.transferCost() > expensiveGerman.transferCost())) {
+            expensiveGerman = player;
+        }
+        playersByPosition.computeIfAbsent(player.position(), position -> new ArrayList<>()).add(player.name());
+        addTeam(player.team(), player.goals(), player.redCards(), 1);
+    }
+
+    private void addTeam(String team, int goals, long redCards, int players) {
+        int index = teams.add(team);
+        if (index == teamGoals.length) {
+            teamGoals = Arrays.copyOf(teamGoals, index * 2);
+            teamRedCards = Arrays.copyOf(teamRedCards, index * 2);
+            teamPlayers = Arrays.copyOf(teamPlayers, index * 2);
+        }
+        teamGoals[index] += goals;
+        teamRedCards[index] += redCards;
+        teamPlayers[index] += players;
+    }
+
+    // Присоединяет агрегаты игроков, идущих после уже учтённых: порядок первого появления
+    // и выбор первого из равных сохраняются, поэтому годится как combiner параллельного collect.
+    public PlayerAggregates combine(PlayerAggregates other) {
+        countWithoutAgency += other.countWithoutAgency;
+        if (other.hasDefender && (!hasDefender || other.maxDefenderGoals > maxDefenderGoals)) {
+            maxDefenderGoals = other.maxDefenderGoals;
+            hasDefender = true;
+        }
+        if (other.expensiveGerman != null
+                && (expensiveGerman == null || other.expensiveGerman.transferCost() > expensiveGerman.transferCost())) {
+            expensiveGerman = other.expensiveGerman;
+        }
+        other.playersByPosition.forEach((position, names) ->
+                playersByPosition.computeIfAbsent(position, key -> new ArrayList<>()).addAll(names));
+        for (int i = 0; i < other.teams.size(); i++) {
+            addTeam(other.teams.keyAt(i), other.teamGoals[i], other.teamRedCards[i], other.teamPlayers[i]);
+        }
+        agencies.addAll(other.agencies);
+        return this;
+    }
+
+    public ResolverReport report() {
+        Map<String, Integer> goalsByTeam = new HashMap<>();
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        for (int i = 0; i < teams.size(); i++) {
+            goalsByTeam.put(teams.keyAt(i), teamGoals[i]);
+            redCardsByTeam.put(teams.keyAt(i), (double) teamRedCards[i] / teamPlayers[i]);
+        }
+        Map<String, Long> playersByAgency = new HashMap<>();
+        agencies.forEach(playersByAgency::put);
+
+        var positions = new HashMap<Position, List<String>>();
+        playersByPosition.forEach((position, names) -> positions.put(position, new ArrayList<>(names)));
+
+        return new ResolverReport(
+                countWithoutAgency,
+                maxDefenderGoals,
+                expensiveGerman == null ? null : Rankings.positionName(expensiveGerman.position()),
+                positions,
+                new HashSet<>(teams.keys()),
+                Rankings.topTeamsByGoals(goalsByTeam),
+                Rankings.agencyWithMinPlayers(playersByAgency),
+                Rankings.rudestTeam(redCardsByTeam)
+        );
+    }
+}
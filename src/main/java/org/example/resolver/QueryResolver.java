@@ -0,0 +1,140 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.query.Aggregate;
+import org.example.query.Dimension;
+import org.example.query.Filter;
+import org.example.query.Measure;
+import org.example.query.Query;
+import org.example.query.QueryEngine;
+import org.example.query.QueryResult;
+import org.example.table.IndexedPlayerStore;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Вопросы IResolver как запросы к QueryEngine. Группы приходят в порядке первого появления,
+// поэтому ничьи разрешаются через Rankings так же, как в Streams.
+public class QueryResolver implements IResolver {
+    private static final Query WITHOUT_AGENCY = Query.builder()
+            .where(Filter.in(Dimension.AGENCY, null, ""))
+            .aggregate(Aggregate.count())
+            .build();
+    private static final Query MAX_DEFENDER_GOALS = Query.builder()
+            .where(Filter.eq(Dimension.POSITION, Position.DEFENDER))
+            .aggregate(Aggregate.max(Measure.GOALS))
+            .build();
+    private static final Query MOST_EXPENSIVE_GERMAN = Query.builder()
+            .where(Filter.eq(Dimension.NATIONALITY, "Germany"))
+            .orderBy(Measure.TRANSFER_COST, true)
+            .limit(1)
+            .build();
+    private static final Query NAMES_BY_POSITION = Query.builder()
+            .groupBy(Dimension.POSITION)
+            .aggregate(Aggregate.names())
+            .build();
+    private static final Query TEAMS = Query.builder()
+            .groupBy(Dimension.TEAM)
+            .build();
+    private static final Query TOP_TEAMS_BY_GOALS = Query.builder()
+            .groupBy(Dimension.TEAM)
+            .aggregate(Aggregate.sum(Measure.GOALS))
+            .orderByAggregate(0, true)
+            .limit(Rankings.TOP_TEAMS_LIMIT)
+            .build();
+    private static final Query PLAYERS_BY_AGENCY = Query.builder()
+            .where(Filter.not(Filter.in(Dimension.AGENCY, null, "")))
+            .groupBy(Dimension.AGENCY)
+            .aggregate(Aggregate.count())
+            .build();
+    private static final Query RED_CARDS_BY_TEAM = Query.builder()
+            .groupBy(Dimension.TEAM)
+            .aggregate(Aggregate.avg(Measure.RED_CARDS))
+            .build();
+
+    private QueryEngine engine;
+
+    public QueryResolver(QueryEngine engine) {
+        this.engine = engine;
+    }
+
+    public QueryResolver(List<Player> players) {
+        this(new QueryEngine(new IndexedPlayerStore(players)));
+    }
+
+    public QueryResult execute(Query query) {
+        return engine.execute(query);
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return engine.players();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        this.engine = new QueryEngine(new IndexedPlayerStore(players));
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        return (int) engine.execute(WITHOUT_AGENCY).rows().get(0).longValue(0);
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        Object max = engine.execute(MAX_DEFENDER_GOALS).rows().get(0).value(0);
+        return max == null ? 0 : (Integer) max;
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        var players = engine.execute(MOST_EXPENSIVE_GERMAN).players();
+        return players.isEmpty() ? null : Rankings.positionName(players.get(0).position());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Position, List<String>> getPlayersByPosition() {
+        Map<Position, List<String>> result = new HashMap<>();
+        engine.execute(NAMES_BY_POSITION).rows()
+                .forEach(row -> result.put((Position) row.key(), (List<String>) row.value(0)));
+        return result;
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        Set<String> teams = new HashSet<>();
+        engine.execute(TEAMS).rows().forEach(row -> teams.add((String) row.key()));
+        return teams;
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        engine.execute(TOP_TEAMS_BY_GOALS).rows()
+                .forEach(row -> result.put((String) row.key(), (int) row.longValue(0)));
+        return result;
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        Map<String, Long> playersByAgency = new HashMap<>();
+        engine.execute(PLAYERS_BY_AGENCY).rows()
+                .forEach(row -> playersByAgency.put((String) row.key(), row.longValue(0)));
+        return Rankings.agencyWithMinPlayers(playersByAgency);
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        engine.execute(RED_CARDS_BY_TEAM).rows()
+                .forEach(row -> redCardsByTeam.put((String) row.key(), row.doubleValue(0)));
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+}
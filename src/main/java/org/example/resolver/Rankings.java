@@ -0,0 +1,179 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.query.TopK;
+import org.example.table.ObjectIntMap;
+import org.example.table.ObjectLongMap;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Общие для всех реализаций IResolver правила выбора ответа из агрегатов,
+// чтобы при равенстве значений разные движки возвращали одно и то же.
+final class Rankings {
+    static final int TOP_TEAMS_LIMIT = 5;
+
+    private Rankings() {
+    }
+
+    static String positionName(Position position) {
+        return switch (position) {
+            case GOALKEEPER -> "Вратарь";
+            case DEFENDER -> "Защитник";
+            case MIDFIELD -> "Полузащитник";
+            case FORWARD -> "Нападающий";
+        };
+    }
+
+    static Map<String, Integer> topTeamsByGoals(Map<String, Integer> goalsByTeam) {
+        return topTeamsByGoals(goalsByTeam, TOP_TEAMS_LIMIT);
+    }
+
+    static Map<String, Integer> topTeamsByGoals(Map<String, Integer> goalsByTeam, int k) {
+        return top(goalsByTeam, k);
+    }
+
+    static Map<String, Double> rudestTeams(Map<String, Double> redCardsByTeam, int k) {
+        return top(redCardsByTeam, k);
+    }
+
+    // По убыванию стоимости, из равных - встретившийся раньше
+    static List<Player> topPlayersByTransferCost(Iterable<Player> players, int k) {
+        return TopK.select(players, k, Comparator.comparingInt(Player::transferCost).reversed());
+    }
+
+    // По убыванию значения, при равенстве - по названию команды
+    private static <V extends Comparable<? super V>> Map<String, V> top(Map<String, V> values, int k) {
+        var top = new TopK<Map.Entry<String, V>>(k, Map.Entry.<String, V>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        values.entrySet().forEach(top::offer);
+        Map<String, V> result = new LinkedHashMap<>();
+        for (var entry : top.toList()) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    // При равенстве выигрывает первое агентство в порядке обхода HashMap, как в Streams
+    static String agencyWithMinPlayers(Map<String, Long> playersByAgency) {
+        return playersByAgency
+                .entrySet()
+                .stream()
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    static String rudestTeam(Map<String, Double> redCardsByTeam) {
+        return redCardsByTeam
+                .entrySet()
+                .stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("");
+    }
+
+    // Те же правила для примитивных карт с ключами в порядке первого появления, без копирования
+    // всех ключей в HashMap. Порядок обхода HashMap нужен только при ничьей, и тогда в карту
+    // попадают лишь равные ключи.
+
+    static Map<String, Integer> topTeamsByGoals(ObjectIntMap<String> goalsByTeam, int k) {
+        var top = new TopK<Integer>(k, Comparator.<Integer>comparingInt(goalsByTeam::valueAt).reversed()
+                .thenComparing(goalsByTeam::keyAt));
+        for (int i = 0; i < goalsByTeam.size(); i++) {
+            top.offer(i);
+        }
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i : top.toList()) {
+            result.put(goalsByTeam.keyAt(i), goalsByTeam.valueAt(i));
+        }
+        return result;
+    }
+
+    static String agencyWithMinPlayers(ObjectLongMap<String> playersByAgency) {
+        int best = -1;
+        int ties = 0;
+        for (int i = 0; i < playersByAgency.size(); i++) {
+            long players = playersByAgency.valueAt(i);
+            if (best < 0 || players < playersByAgency.valueAt(best)) {
+                best = i;
+                ties = 1;
+            } else if (players == playersByAgency.valueAt(best)) {
+                ties++;
+            }
+        }
+        if (ties <= 1) {
+            return best < 0 ? null : playersByAgency.keyAt(best);
+        }
+        long min = playersByAgency.valueAt(best);
+        Map<String, Long> tied = new HashMap<>(hashMapCapacity(playersByAgency.size()));
+        for (int i = 0; i < playersByAgency.size(); i++) {
+            if (playersByAgency.valueAt(i) == min) {
+                tied.put(playersByAgency.keyAt(i), min);
+            }
+        }
+        return agencyWithMinPlayers(tied);
+    }
+
+    // redCards и players собраны по одним и тем же игрокам, поэтому номера ключей совпадают
+    static String rudestTeam(ObjectLongMap<String> redCards, ObjectIntMap<String> players) {
+        double[] averages = averages(redCards, players);
+        int best = -1;
+        int ties = 0;
+        for (int i = 0; i < averages.length; i++) {
+            if (best < 0 || averages[i] > averages[best]) {
+                best = i;
+                ties = 1;
+            } else if (averages[i] == averages[best]) {
+                ties++;
+            }
+        }
+        if (ties <= 1) {
+            return best < 0 || redCards.keyAt(best) == null ? "" : redCards.keyAt(best);
+        }
+        double max = averages[best];
+        Map<String, Double> tied = new HashMap<>(hashMapCapacity(averages.length));
+        for (int i = 0; i < averages.length; i++) {
+            if (averages[i] == max) {
+                tied.put(redCards.keyAt(i), max);
+            }
+        }
+        return rudestTeam(tied);
+    }
+
+    static Map<String, Double> rudestTeams(ObjectLongMap<String> redCards, ObjectIntMap<String> players, int k) {
+        double[] averages = averages(redCards, players);
+        var top = new TopK<Integer>(k, Comparator.<Integer>comparingDouble(i -> averages[i]).reversed()
+                .thenComparing(redCards::keyAt));
+        for (int i = 0; i < averages.length; i++) {
+            top.offer(i);
+        }
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int i : top.toList()) {
+            result.put(redCards.keyAt(i), averages[i]);
+        }
+        return result;
+    }
+
+    private static double[] averages(ObjectLongMap<String> sums, ObjectIntMap<String> counts) {
+        double[] averages = new double[sums.size()];
+        for (int i = 0; i < averages.length; i++) {
+            averages[i] = (double) sums.valueAt(i) / counts.valueAt(i);
+        }
+        return averages;
+    }
+
+    // Ёмкость таблицы new HashMap<>() после вставки size ключей. В карте той же ёмкости
+    // любое подмножество ключей обходится в том же относительном порядке.
+    private static int hashMapCapacity(int size) {
+        int capacity = 16;
+        while (size > capacity / 4 * 3) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.resolver;
+
+import org.example.model.Position;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Неизменяемый снимок ответов на все запросы IResolver
+public record ResolverReport(
+        int countWithoutAgency,
+        int maxDefenderGoalsCount,
+        String theExpensiveGermanPlayerPosition,
+        Map<Position, List<String>> playersByPosition,
+        Set<String> teams,
+        Map<String, Integer> top5TeamsByGoalsCount,
+        String agencyWithMinPlayersCount,
+        String theRudestTeam
+) {
+    public ResolverReport {
+        var positions = new HashMap<Position, List<String>>();
+        playersByPosition.forEach((position, names) -> positions.put(position, Collections.unmodifiableList(names)));
+        playersByPosition = Collections.unmodifiableMap(positions);
+        teams = Collections.unmodifiableSet(teams);
+        top5TeamsByGoalsCount = Collections.unmodifiableMap(top5TeamsByGoalsCount);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.resolver;
+
+// Часть набора данных, способная посчитать свои частичные агрегаты.
+// Сейчас есть только LocalShard в том же процессе; удалённый шард реализует тот же метод.
+public interface Shard {
+    // Результат может быть общим для вызовов: его сливают в новый ShardPartial, а не изменяют
+    ShardPartial aggregate();
+}
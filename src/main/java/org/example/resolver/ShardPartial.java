@@ -0,0 +1,183 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Частичные агрегаты одного шарда. Хранят только суммы, счётчики и номера строк
+// исходного набора, поэтому сливаются в любом порядке: первое появление команды
+// или агентства и выбор первого из равных восстанавливаются по номеру строки.
+public final class ShardPartial {
+    private static final String GERMANY = "Germany";
+
+    // Суммы по команде или агентству и номер строки, где ключ встретился впервые
+    private static final class Totals {
+        private long goals;
+        private long redCards;
+        private long players;
+        private int firstRow = Integer.MAX_VALUE;
+
+        private void add(Totals other) {
+            goals += other.goals;
+            redCards += other.redCards;
+            players += other.players;
+            firstRow = Math.min(firstRow, other.firstRow);
+        }
+    }
+
+    private record Name(int row, String name) {
+    }
+
+    private int countWithoutAgency;
+    private boolean hasDefender;
+    private int maxDefenderGoals;
+    private int germanRow = -1;
+    private int germanCost;
+    private Position germanPosition;
+    private final Map<String, Totals> teams = new HashMap<>();
+    private final Map<String, Totals> agencies = new HashMap<>();
+    private final Map<Position, List<Name>> playersByPosition = new HashMap<>();
+
+    // row - номер игрока во всём наборе данных; строки одного шарда подаются по возрастанию
+    public void accept(int row, Player player) {
+        String agency = player.agency();
+        if (agency == null || agency.isEmpty()) {
+            countWithoutAgency++;
+        } else {
+            var totals = agencies.computeIfAbsent(agency, key -> new Totals());
+            totals.players++;
+            totals.firstRow = Math.min(totals.firstRow, row);
+        }
+        if (player.position() == Position.DEFENDER && (!hasDefender || player.goals() > maxDefenderGoals)) {
+            maxDefenderGoals = player.goals();
+            hasDefender = true;
+        }
+        if (GERMANY.equals(player.nationality())) {
+            offerGerman(row, player.transferCost(), player.position());
+        }
+        playersByPosition.computeIfAbsent(player.position(), position -> new ArrayList<>())
+                .add(new Name(row, player.name()));
+        var totals = teams.computeIfAbsent(player.team(), key -> new Totals());
+        totals.goals += player.goals();
+        totals.redCards += player.redCards();
+        totals.players++;
+        totals.firstRow = Math.min(totals.firstRow, row);
+    }
+
+    // Из равных по стоимости выигрывает более ранняя строка
+    private void offerGerman(int row, int cost, Position position) {
+        if (germanRow < 0 || cost > germanCost || (cost == germanCost && row < germanRow)) {
+            germanRow = row;
+            germanCost = cost;
+            germanPosition = position;
+        }
+    }
+
+    public ShardPartial merge(ShardPartial other) {
+        countWithoutAgency += other.countWithoutAgency;
+        if (other.hasDefender && (!hasDefender || other.maxDefenderGoals > maxDefenderGoals)) {
+            maxDefenderGoals = other.maxDefenderGoals;
+            hasDefender = true;
+        }
+        if (other.germanRow >= 0) {
+            offerGerman(other.germanRow, other.germanCost, other.germanPosition);
+        }
+        other.teams.forEach((team, totals) -> teams.computeIfAbsent(team, key -> new Totals()).add(totals));
+        other.agencies.forEach((agency, totals) -> agencies.computeIfAbsent(agency, key -> new Totals()).add(totals));
+        other.playersByPosition.forEach((position, names) ->
+                playersByPosition.put(position, mergeByRow(playersByPosition.get(position), names)));
+        return this;
+    }
+
+    // Оба списка упорядочены по номеру строки, результат тоже
+    private static List<Name> mergeByRow(List<Name> left, List<Name> right) {
+        if (left == null) {
+            return new ArrayList<>(right);
+        }
+        var merged = new ArrayList<Name>(left.size() + right.size());
+        int i = 0;
+        int j = 0;
+        while (i < left.size() && j < right.size()) {
+            merged.add(left.get(i).row() < right.get(j).row() ? left.get(i++) : right.get(j++));
+        }
+        merged.addAll(left.subList(i, left.size()));
+        merged.addAll(right.subList(j, right.size()));
+        return merged;
+    }
+
+    int countWithoutAgency() {
+        return countWithoutAgency;
+    }
+
+    int maxDefenderGoals() {
+        return maxDefenderGoals;
+    }
+
+    String expensiveGermanPosition() {
+        return germanRow < 0 ? null : Rankings.positionName(germanPosition);
+    }
+
+    Map<Position, List<String>> playersByPosition() {
+        var result = new HashMap<Position, List<String>>();
+        playersByPosition.forEach((position, names) -> {
+            var list = new ArrayList<String>(names.size());
+            names.forEach(name -> list.add(name.name()));
+            result.put(position, list);
+        });
+        return result;
+    }
+
+    Set<String> teams() {
+        return new HashSet<>(teams.keySet());
+    }
+
+    Map<String, Integer> top5TeamsByGoals() {
+        Map<String, Integer> goalsByTeam = new HashMap<>();
+        inFirstSeenOrder(teams).forEach((team, totals) -> goalsByTeam.put(team, (int) totals.goals));
+        return Rankings.topTeamsByGoals(goalsByTeam);
+    }
+
+    String agencyWithMinPlayers() {
+        Map<String, Long> playersByAgency = new HashMap<>();
+        inFirstSeenOrder(agencies).forEach((agency, totals) -> playersByAgency.put(agency, totals.players));
+        return Rankings.agencyWithMinPlayers(playersByAgency);
+    }
+
+    String rudestTeam() {
+        Map<String, Double> redCardsByTeam = new HashMap<>();
+        inFirstSeenOrder(teams).forEach((team, totals) ->
+                redCardsByTeam.put(team, (double) totals.redCards / totals.players));
+        return Rankings.rudestTeam(redCardsByTeam);
+    }
+
+    // Ответы на все вопросы по слитым агрегатам
+    public ResolverReport report() {
+        return new ResolverReport(
+                countWithoutAgency(),
+                maxDefenderGoals(),
+                expensiveGermanPosition(),
+                playersByPosition(),
+                teams(),
+                top5TeamsByGoals(),
+                agencyWithMinPlayers(),
+                rudestTeam()
+        );
+    }
+
+    // Ключи вставляются в HashMap в порядке первого появления, как при последовательном проходе
+    private static Map<String, Totals> inFirstSeenOrder(Map<String, Totals> totals) {
+        var entries = new ArrayList<>(totals.entrySet());
+        entries.sort(Comparator.comparingInt(entry -> entry.getValue().firstRow));
+        var ordered = new LinkedHashMap<String, Totals>();
+        entries.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return ordered;
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.resolver;
+
+import org.example.metrics.ScanCounter;
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+// IResolver поверх N шардов: запрос рассылается всем шардам (scatter), каждый считает
+// частичные агрегаты ShardPartial, затем они сливаются (gather). Ответы совпадают со Streams,
+// включая ничьи, так как частичные агрегаты помнят номера строк исходного набора.
+// Шарды неизменяемы, поэтому слитый результат считается один раз на набор шардов
+// и заново - только после setPlayers.
+public class ShardedResolver implements IResolver {
+    // Номер шарда для игрока; результат берётся по модулю числа шардов
+    @FunctionalInterface
+    public interface Partitioner {
+        // Все игроки команды в одном шарде: итоги команды приходят из шарда уже полными,
+        // при слиянии они только собираются в одну карту
+        Partitioner BY_TEAM = player -> Objects.hashCode(player.team());
+        // Равномерное распределение по хешу имени игрока, независимо от команд
+        Partitioner BY_HASH = player -> Objects.hashCode(player.name());
+
+        int hash(Player player);
+    }
+
+    private final int shardCount;
+    private final Partitioner partitioner;
+    private final Executor executor;
+    private volatile List<LocalShard> shards;
+    private volatile Gathered gathered;
+
+    private record Gathered(List<LocalShard> shards, ShardPartial partial) {
+    }
+
+    public ShardedResolver(List<Player> players, int shardCount) {
+        this(players, shardCount, Partitioner.BY_TEAM, ForkJoinPool.commonPool());
+    }
+
+    public ShardedResolver(List<Player> players, int shardCount, Partitioner partitioner, Executor executor) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be positive: " + shardCount);
+        }
+        this.shardCount = shardCount;
+        this.partitioner = Objects.requireNonNull(partitioner, "partitioner");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.shards = partition(players);
+    }
+
+    private List<LocalShard> partition(List<Player> players) {
+        var rows = new int[shardCount][];
+        var sizes = new int[shardCount];
+        var slices = new ArrayList<List<Player>>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            rows[shard] = new int[16];
+            slices.add(new ArrayList<>());
+        }
+        for (int row = 0; row < players.size(); row++) {
+            var player = players.get(row);
+            int shard = Math.floorMod(partitioner.hash(player), shardCount);
+            if (sizes[shard] == rows[shard].length) {
+                rows[shard] = Arrays.copyOf(rows[shard], sizes[shard] * 2);
+            }
+            rows[shard][sizes[shard]++] = row;
+            slices.get(shard).add(player);
+        }
+        var result = new ArrayList<LocalShard>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            result.add(new LocalShard(Arrays.copyOf(rows[shard], sizes[shard]), slices.get(shard)));
+        }
+        return List.copyOf(result);
+    }
+
+    // Рассылает aggregate() всем шардам на executor и сливает ответы; порядок шардов не важен
+    public static ShardPartial gather(List<? extends Shard> shards, Executor executor) {
+        var futures = new ArrayList<CompletableFuture<ShardPartial>>(shards.size());
+        for (var shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(shard::aggregate, executor));
+        }
+        var result = new ShardPartial();
+        for (var future : futures) {
+            result.merge(future.join());
+        }
+        return result;
+    }
+
+    public List<LocalShard> getShards() {
+        return shards;
+    }
+
+    // Слитый результат для текущего набора шардов; параллельные первые запросы могут
+    // посчитать его дважды, но ответ от этого не меняется
+    private ShardPartial gather() {
+        var current = shards;
+        var cached = gathered;
+        if (cached != null && cached.shards() == current) {
+            return cached.partial();
+        }
+        var partial = gather(current, executor);
+        // Строки читаются только при пересчёте; запросы из кеша ничего не сканируют
+        ScanCounter.add(size(current));
+        gathered = new Gathered(current, partial);
+        return partial;
+    }
+
+    // Игроки в исходном порядке, собранные из шардов по номерам строк
+    @Override
+    public List<Player> getPlayers() {
+        var current = shards;
+        var players = new Player[size(current)];
+        for (var shard : current) {
+            for (int i = 0; i < shard.size(); i++) {
+                players[shard.row(i)] = shard.getPlayers().get(i);
+            }
+        }
+        return new ArrayList<>(Arrays.asList(players));
+    }
+
+    private static int size(List<LocalShard> shards) {
+        int size = 0;
+        for (var shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        this.shards = partition(players);
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        return gather().countWithoutAgency();
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        return gather().maxDefenderGoals();
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        return gather().expensiveGermanPosition();
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        return gather().playersByPosition();
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        return gather().teams();
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        return gather().top5TeamsByGoals();
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        return gather().agencyWithMinPlayers();
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        return gather().rudestTeam();
+    }
+
+    // Один scatter-gather на все вопросы
+    @Override
+    public ResolverReport computeAll() {
+        return gather().report();
+    }
+}
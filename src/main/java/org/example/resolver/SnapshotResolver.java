@@ -0,0 +1,194 @@
+package org.example.resolver;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// Потокобезопасный IResolver: данные хранятся в неизменяемых снимках, текущий публикуется через
+// AtomicReference. Чтение без блокировок - каждый запрос целиком выполняется по одному снимку.
+// Запись копирует данные и строит новый снимок (со своим резолвером) до публикации,
+// поэтому читатели никогда не видят частично заменённый набор.
+public class SnapshotResolver implements IResolver {
+    private final Function<List<Player>, IResolver> factory;
+    private final AtomicReference<Snapshot> current;
+
+    public SnapshotResolver(List<Player> players) {
+        this(players, Streams::new);
+    }
+
+    // factory строит резолвер снимка; после публикации у него не вызывается setPlayers,
+    // но запросы к нему идут из разных потоков одновременно
+    public SnapshotResolver(List<Player> players, Function<List<Player>, IResolver> factory) {
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.current = new AtomicReference<>(build(0, players));
+    }
+
+    // Неизменяемый набор данных с номером версии; отвечает на те же вопросы, что IResolver,
+    // так что несколько ответов по одному снимку всегда согласованы. Заменить данные в нём нельзя.
+    public static final class Snapshot {
+        private final long version;
+        private final List<Player> players;
+        private final IResolver resolver;
+
+        private Snapshot(long version, List<Player> players, IResolver resolver) {
+            this.version = version;
+            this.players = players;
+            this.resolver = resolver;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return players.size();
+        }
+
+        public List<Player> getPlayers() {
+            return players;
+        }
+
+        public int getCountWithoutAgency() {
+            return resolver.getCountWithoutAgency();
+        }
+
+        public int getMaxDefenderGoalsCount() {
+            return resolver.getMaxDefenderGoalsCount();
+        }
+
+        public String getTheExpensiveGermanPlayerPosition() {
+            return resolver.getTheExpensiveGermanPlayerPosition();
+        }
+
+        public Map<Position, List<String>> getPlayersByPosition() {
+            return resolver.getPlayersByPosition();
+        }
+
+        public Set<String> getTeams() {
+            return resolver.getTeams();
+        }
+
+        public Map<String, Integer> getTop5TeamsByGoalsCount() {
+            return resolver.getTop5TeamsByGoalsCount();
+        }
+
+        public String getAgencyWithMinPlayersCount() {
+            return resolver.getAgencyWithMinPlayersCount();
+        }
+
+        public String getTheRudestTeam() {
+            return resolver.getTheRudestTeam();
+        }
+
+        public ResolverReport computeAll() {
+            return resolver.computeAll();
+        }
+    }
+
+    private Snapshot build(long version, List<Player> players) {
+        var copy = copyOf(players);
+        return new Snapshot(version, copy, factory.apply(copy));
+    }
+
+    private static List<Player> copyOf(List<Player> players) {
+        return Collections.unmodifiableList(new ArrayList<>(players));
+    }
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    public long getVersion() {
+        return current.get().version();
+    }
+
+    @Override
+    public void setPlayers(List<Player> players) {
+        var copy = copyOf(players);
+        var resolver = factory.apply(copy);
+        // Версия назначается при публикации, чтобы оставаться возрастающей при параллельной записи
+        current.updateAndGet(previous -> new Snapshot(previous.version() + 1, copy, resolver));
+    }
+
+    // Копирование при записи: новый список строится из текущего; если за это время
+    // опубликовали другой снимок, изменение применяется к нему заново
+    public Snapshot update(UnaryOperator<List<Player>> change) {
+        while (true) {
+            var previous = current.get();
+            var next = build(previous.version() + 1, change.apply(previous.getPlayers()));
+            if (current.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    // Загрузка и построение снимка в фоне; запросы до завершения отвечают по старому снимку
+    public CompletableFuture<Snapshot> reload(Supplier<List<Player>> loader, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            setPlayers(loader.get());
+            return snapshot();
+        }, executor);
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return current.get().getPlayers();
+    }
+
+    @Override
+    public int getCountWithoutAgency() {
+        return current.get().getCountWithoutAgency();
+    }
+
+    @Override
+    public int getMaxDefenderGoalsCount() {
+        return current.get().getMaxDefenderGoalsCount();
+    }
+
+    @Override
+    public String getTheExpensiveGermanPlayerPosition() {
+        return current.get().getTheExpensiveGermanPlayerPosition();
+    }
+
+    @Override
+    public Map<Position, List<String>> getPlayersByPosition() {
+        return current.get().getPlayersByPosition();
+    }
+
+    @Override
+    public Set<String> getTeams() {
+        return current.get().getTeams();
+    }
+
+    @Override
+    public Map<String, Integer> getTop5TeamsByGoalsCount() {
+        return current.get().getTop5TeamsByGoalsCount();
+    }
+
+    @Override
+    public String getAgencyWithMinPlayersCount() {
+        return current.get().getAgencyWithMinPlayersCount();
+    }
+
+    @Override
+    public String getTheRudestTeam() {
+        return current.get().getTheRudestTeam();
+    }
+
+    @Override
+    public ResolverReport computeAll() {
+        return current.get().computeAll();
+    }
+}
@@ -1,16 +1,25 @@
 package org.example.resolver;
 
+import org.example.metrics.ScanCounter;
 import org.example.model.Player;
 import org.example.model.Position;
 import org.example.parser.CsvParser;
+import org.example.parser.ParseOptions;
+import org.example.table.ObjectIntMap;
+import org.example.table.ObjectLongMap;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Streams implements IResolver {
     private List<Player> players;
     private CsvParser csvParser;
+    private Supplier<Stream<Player>> source;
 
     public Streams() {
         this.csvParser = new CsvParser();
@@ -26,123 +35,186 @@ public class Streams implements IResolver {
         this.csvParser = null;
     }
 
+    // Каждый запрос заново читает данные из источника, не держа весь список в памяти.
+    public Streams(Supplier<Stream<Player>> source) {
+        this.source = source;
+        this.csvParser = null;
+    }
+
+    public static Streams fromCsv(String pathString) {
+        return fromCsv(pathString, ParseOptions.STRICT);
+    }
+
+    public static Streams fromCsv(String pathString, ParseOptions options) {
+        return new Streams(() -> {
+            try {
+                return CsvParser.streamCsv(pathString, options);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     public List<Player> getPlayers() {
+        if (source != null) {
+            try (var stream = source.get()) {
+                return stream.toList();
+            }
+        }
         return players;
     }
 
     public void setPlayers(List<Player> players) {
         this.players = players;
+        this.source = null;
+    }
+
+    // Все запросы - полный проход; строки источника считаются по мере чтения
+    private Stream<Player> stream() {
+        if (source != null) {
+            long[] rows = new long[1];
+            return source.get().peek(player -> rows[0]++).onClose(() -> ScanCounter.add(rows[0]));
+        }
+        if (players == null) return null;
+        ScanCounter.add(players.size());
+        return players.stream();
     }
 
     @Override
 
     public int getCountWithoutAgency() {
-        if (players == null) return 0;
-        return (int) players.stream()
-                .filter(player -> player.agency() == null || player.agency().isEmpty())
-                .count();
+        try (var stream = stream()) {
+            if (stream == null) return 0;
+            return (int) stream
+                    .filter(player -> player.agency() == null || player.agency().isEmpty())
+                    .count();
+        }
     }
 
     @Override
 
     public int getMaxDefenderGoalsCount() {
-        if (players == null) return 0;
-        return players.stream()
-                .filter(player -> player.position() == Position.DEFENDER)
-                .mapToInt(Player::goals)
-                .max()
-                .orElse(0);
-
+        try (var stream = stream()) {
+            if (stream == null) return 0;
+            return stream
+                    .filter(player -> player.position() == Position.DEFENDER)
+                    .mapToInt(Player::goals)
+                    .max()
+                    .orElse(0);
+        }
     }
 
     @Override
     public String getTheExpensiveGermanPlayerPosition() {
-        if (players == null) return null;
-        Player expensiveGerman = players.stream()
-                .filter(player -> player.nationality().equals("Germany"))
-                .max((player1, player2) -> player1.transferCost() - player2.transferCost())
-                .orElse(null);
+        Player expensiveGerman;
+        try (var stream = stream()) {
+            if (stream == null) return null;
+            expensiveGerman = stream
+                    .filter(player -> player.nationality().equals("Germany"))
+                    .max((player1, player2) -> player1.transferCost() - player2.transferCost())
+                    .orElse(null);
+        }
 
         if (expensiveGerman != null) {
-            return switch (expensiveGerman.position()) {
-                case GOALKEEPER -> "Вратарь";
-                case DEFENDER -> "Защитник";
-                case MIDFIELD -> "Полузащитник";
-                case FORWARD -> "Нападающий";
-            };
+            return Rankings.positionName(expensiveGerman.position());
         }
         return null;
     }
 
     @Override
     public Map<Position, List<String>> getPlayersByPosition() {
-        if (players == null) return new HashMap<>();
-        return players.stream()
-                .collect(Collectors.groupingBy(
-                        Player::position,
-                        Collectors.mapping(Player::name, Collectors.toList())
-                ));
+        try (var stream = stream()) {
+            if (stream == null) return new HashMap<>();
+            return stream
+                    .collect(Collectors.groupingBy(
+                            Player::position,
+                            Collectors.mapping(Player::name, Collectors.toList())
+                    ));
+        }
     }
 
     @Override
     public Set<String> getTeams() {
-        if (players == null) return new HashSet<>();
-        return players.stream()
-                .map(Player::team)
-                .collect(Collectors.toSet());
+        try (var stream = stream()) {
+            if (stream == null) return new HashSet<>();
+            return stream
+                    .map(Player::team)
+                    .collect(Collectors.toSet());
+        }
     }
 
     @Override
     public Map<String, Integer> getTop5TeamsByGoalsCount() {
-        if (players == null) return new HashMap<>();
-        return players.stream()
-                .collect(Collectors.groupingBy(
-                        Player::team,
-                        Collectors.summingInt(Player::goals)
-                ))
-                .entrySet()
-                .stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
-                        .thenComparing(Map.Entry.comparingByKey()))
-                .limit(5)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
+        return getTopTeamsByGoalsCount(Rankings.TOP_TEAMS_LIMIT);
+    }
+
+    public Map<String, Integer> getTopTeamsByGoalsCount(int k) {
+        var goals = new ObjectIntMap<String>();
+        try (var stream = stream()) {
+            if (stream == null) return new HashMap<>();
+            stream.forEach(player -> goals.addTo(player.team(), player.goals()));
+        }
+        return Rankings.topTeamsByGoals(goals, k);
+    }
+
+    public List<Player> getTopPlayersByTransferCost(int k) {
+        try (var stream = stream()) {
+            if (stream == null) return new ArrayList<>();
+            return Rankings.topPlayersByTransferCost(stream::iterator, k);
+        }
     }
 
     @Override
     public String getAgencyWithMinPlayersCount() {
-        if (players == null || players.isEmpty()) {
-            return null;
+        var counts = new ObjectLongMap<String>();
+        try (var stream = stream()) {
+            if (stream == null) return null;
+            stream
+                    .filter(player -> player.agency() != null && !player.agency().isEmpty())
+                    .forEach(player -> counts.addTo(player.agency(), 1));
         }
-        return players.stream()
-                .filter(player -> player.agency() != null && !player.agency().isEmpty())
-                .collect(Collectors.groupingBy(
-                        Player::agency,
-                        Collectors.counting()
-                ))
-                .entrySet()
-                .stream()
-                .min(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return Rankings.agencyWithMinPlayers(counts);
     }
 
     @Override
     public String getTheRudestTeam() {
-        if (players == null) return "";
-        return players.stream()
-                .collect(Collectors.groupingBy(
-                        Player::team,
-                        Collectors.averagingDouble(Player::redCards)
-                ))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("");
+        var redCards = new ObjectLongMap<String>();
+        var counts = new ObjectIntMap<String>();
+        try (var stream = stream()) {
+            if (stream == null) return "";
+            redCardsByTeam(stream, redCards, counts);
+        }
+        return Rankings.rudestTeam(redCards, counts);
+    }
+
+    public Map<String, Double> getTopRudestTeams(int k) {
+        var redCards = new ObjectLongMap<String>();
+        var counts = new ObjectIntMap<String>();
+        try (var stream = stream()) {
+            if (stream == null) return new LinkedHashMap<>();
+            redCardsByTeam(stream, redCards, counts);
+        }
+        return Rankings.rudestTeams(redCards, counts, k);
+    }
+
+    // Суммы и счётчики без упаковки; ключи в обеих картах в порядке первого появления команд
+    private static void redCardsByTeam(Stream<Player> players, ObjectLongMap<String> redCards,
+                                       ObjectIntMap<String> counts) {
+        players.forEach(player -> {
+            redCards.addTo(player.team(), player.redCards());
+            counts.addTo(player.team(), 1);
+        });
+    }
+
+    // Все восемь метрик за один проход вместо восьми
+    @Override
+    public ResolverReport computeAll() {
+        var aggregates = new PlayerAggregates();
+        try (var stream = stream()) {
+            if (stream != null) {
+                stream.forEach(aggregates::accept);
+            }
+        }
+        return aggregates.report();
     }
 }
\ No newline at end of file
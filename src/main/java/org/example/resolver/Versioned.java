@@ -0,0 +1,7 @@
+package org.example.resolver;
+
+// Резолвер, данные которого можно менять не только через обёртки (например, IncrementalResolver.add).
+// dataVersion растёт при каждом изменении; по ней CachingResolver замечает изменения в обход кеша.
+public interface Versioned {
+    long dataVersion();
+}
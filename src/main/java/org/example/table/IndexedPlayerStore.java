@@ -0,0 +1,80 @@
+package org.example.table;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Игроки с вторичными индексами, построенными один раз при загрузке: корзины по позиции
+// и хеш-индексы по команде, стране и агентству. Внутри каждой корзины сохраняется
+// исходный порядок игроков, а ключи индексов идут в порядке первого появления.
+public class IndexedPlayerStore {
+    private final List<Player> players;
+    private final Map<Position, List<Player>> byPosition = new EnumMap<>(Position.class);
+    private final Map<String, List<Player>> byTeam = new LinkedHashMap<>();
+    private final Map<String, List<Player>> byNationality = new LinkedHashMap<>();
+    private final Map<String, List<Player>> byAgency = new LinkedHashMap<>();
+
+    public IndexedPlayerStore(List<Player> players) {
+        this.players = Collections.unmodifiableList(new ArrayList<>(players));
+        for (Player player : this.players) {
+            byPosition.computeIfAbsent(player.position(), key -> new ArrayList<>()).add(player);
+            byTeam.computeIfAbsent(player.team(), key -> new ArrayList<>()).add(player);
+            byNationality.computeIfAbsent(player.nationality(), key -> new ArrayList<>()).add(player);
+            byAgency.computeIfAbsent(player.agency(), key -> new ArrayList<>()).add(player);
+        }
+        freeze(byPosition);
+        freeze(byTeam);
+        freeze(byNationality);
+        freeze(byAgency);
+    }
+
+    private static <K> void freeze(Map<K, List<Player>> index) {
+        index.replaceAll((key, bucket) -> Collections.unmodifiableList(bucket));
+    }
+
+    public List<Player> players() {
+        return players;
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    public List<Player> byPosition(Position position) {
+        return byPosition.getOrDefault(position, List.of());
+    }
+
+    public List<Player> byTeam(String team) {
+        return byTeam.getOrDefault(team, List.of());
+    }
+
+    public List<Player> byNationality(String nationality) {
+        return byNationality.getOrDefault(nationality, List.of());
+    }
+
+    public List<Player> byAgency(String agency) {
+        return byAgency.getOrDefault(agency, List.of());
+    }
+
+    public Map<Position, List<Player>> positionIndex() {
+        return Collections.unmodifiableMap(byPosition);
+    }
+
+    public Map<String, List<Player>> teamIndex() {
+        return Collections.unmodifiableMap(byTeam);
+    }
+
+    public Map<String, List<Player>> nationalityIndex() {
+        return Collections.unmodifiableMap(byNationality);
+    }
+
+    public Map<String, List<Player>> agencyIndex() {
+        return Collections.unmodifiableMap(byAgency);
+    }
+}
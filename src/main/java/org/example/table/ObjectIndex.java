@@ -0,0 +1,116 @@
+package org.example.table;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// Номера ключей в порядке первого появления на открытой адресации: поиск уже известного
+// ключа ничего не выделяет. Поддерживается ключ null.
+public class ObjectIndex<K> {
+    public static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Номер ключа + 1, 0 - пустая ячейка
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size;
+    private int nullIndex = ABSENT;
+
+    public int indexOf(K key) {
+        if (key == null) {
+            return nullIndex;
+        }
+        int hash = hash(key);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && key.equals(keys[index])) {
+                return index;
+            }
+        }
+        return ABSENT;
+    }
+
+    // Номер ключа; новый ключ получает следующий номер
+    public int add(K key) {
+        if (key == null) {
+            if (nullIndex == ABSENT) {
+                nullIndex = append(null, 0);
+            }
+            return nullIndex;
+        }
+        int hash = hash(key);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && key.equals(keys[index])) {
+                return index;
+            }
+        }
+        int index = append(key, hash);
+        slots[slot] = index + 1;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    public K keyAt(int index) {
+        Objects.checkIndex(index, size);
+        return (K) keys[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Ключи в порядке номеров, без копирования
+    public List<K> keys() {
+        return new AbstractList<>() {
+            @Override
+            public K get(int index) {
+                return keyAt(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int append(K key, int hash) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        keys[size] = key;
+        hashes[size] = hash;
+        return size++;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int index = 0; index < size; index++) {
+            if (index == nullIndex) {
+                continue;
+            }
+            int slot = hashes[index] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.table;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+// Отображение ключ -> int без упаковки значений: суммы и счётчики накапливаются
+// в массиве по номеру ключа из ObjectIndex. Обход идёт в порядке первого появления ключей.
+public class ObjectIntMap<K> {
+    private final ObjectIndex<K> index = new ObjectIndex<>();
+    private int[] values = new int[16];
+
+    public void addTo(K key, int delta) {
+        int i = index.add(key);
+        if (i == values.length) {
+            values = Arrays.copyOf(values, i * 2);
+        }
+        values[i] += delta;
+    }
+
+    public int getOrDefault(K key, int defaultValue) {
+        int i = index.indexOf(key);
+        return i == ObjectIndex.ABSENT ? defaultValue : values[i];
+    }
+
+    public boolean containsKey(K key) {
+        return index.indexOf(key) != ObjectIndex.ABSENT;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public K keyAt(int i) {
+        return index.keyAt(i);
+    }
+
+    public int valueAt(int i) {
+        return values[i];
+    }
+
+    public void forEach(ObjIntConsumer<? super K> action) {
+        for (int i = 0; i < index.size(); i++) {
+            action.accept(index.keyAt(i), values[i]);
+        }
+    }
+
+    // Ключи other, которых ещё нет, добавляются после имеющихся - годится для combiner
+    public ObjectIntMap<K> addAll(ObjectIntMap<K> other) {
+        other.forEach(this::addTo);
+        return this;
+    }
+}
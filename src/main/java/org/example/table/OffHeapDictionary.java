@@ -0,0 +1,88 @@
+package org.example.table;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+// Словарь строк, значения которого лежат вне кучи; в куче только адреса и длины по id.
+// Id присваиваются в порядке первого появления, null кодируется как NULL_ID.
+public class OffHeapDictionary {
+    public static final int NULL_ID = StringDictionary.NULL_ID;
+
+    private final OffHeapStrings strings;
+    private long[] addresses = new long[16];
+    private int[] lengths = new int[16];
+    private int size;
+    // Нужен только при построении, после freeze() поиск идёт сравнением байтов
+    private ObjectIndex<String> index = new ObjectIndex<>();
+
+    OffHeapDictionary(OffHeapStrings strings) {
+        this.strings = strings;
+    }
+
+    int intern(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        int id = index.add(value);
+        if (id == size) {
+            if (size == addresses.length) {
+                addresses = Arrays.copyOf(addresses, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            addresses[size] = strings.append(bytes);
+            lengths[size] = bytes.length;
+            size++;
+        }
+        return id;
+    }
+
+    void freeze() {
+        index = null;
+        addresses = Arrays.copyOf(addresses, size);
+        lengths = Arrays.copyOf(lengths, size);
+    }
+
+    // id строки или NULL_ID, если такой строки нет в словаре
+    public int find(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        if (index != null) {
+            int id = index.indexOf(value);
+            return id == ObjectIndex.ABSENT ? NULL_ID : id;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (int id = 0; id < size; id++) {
+            if (lengths[id] == bytes.length && strings.equals(addresses[id], bytes)) {
+                return id;
+            }
+        }
+        return NULL_ID;
+    }
+
+    public String valueOf(int id) {
+        return id == NULL_ID ? null : strings.get(addresses[id], lengths[id]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Значения декодируются при каждом обращении
+    public List<String> values() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int id) {
+                return valueOf(id);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.table;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// Игроки вне кучи: записи фиксированной длины в прямых буферах по ROWS_PER_PAGE записей,
+// имена и значения словарей - в OffHeapStrings. В куче остаются только ссылки на страницы
+// и адреса строк словарей, поэтому набор может быть больше комфортного размера кучи.
+// Прямые буферы ограничены -XX:MaxDirectMemorySize, который по умолчанию равен -Xmx, так что
+// для набора больше кучи флаг нужно задать явно, иначе allocateDirect бросит OutOfMemoryError.
+// Память освобождается, когда хранилище становится недостижимым.
+public class OffHeapPlayerStore {
+    public static final byte NULL_POSITION = PlayerTable.NULL_POSITION;
+
+    static final int PAGE_SHIFT = 16;
+    static final int ROWS_PER_PAGE = 1 << PAGE_SHIFT;
+
+    // Раскладка записи
+    private static final int TEAM = 0;
+    private static final int NATIONALITY = 4;
+    private static final int AGENCY = 8;
+    private static final int TRANSFER_COST = 12;
+    private static final int GOALS = 16;
+    private static final int RED_CARDS = 20;
+    private static final int NAME_ADDRESS = 24;
+    private static final int NAME_LENGTH = 32;
+    private static final int POSITION = 36;
+    static final int RECORD_SIZE = 40;
+
+    private static final int NULL_NAME = -1;
+    private static final Position[] POSITIONS = Position.values();
+
+    private final ByteBuffer[] pages;
+    private final int size;
+    private final OffHeapStrings strings;
+    private final OffHeapDictionary teamDictionary;
+    private final OffHeapDictionary nationalityDictionary;
+    private final OffHeapDictionary agencyDictionary;
+
+    private OffHeapPlayerStore(Builder builder) {
+        this.pages = builder.pages.toArray(new ByteBuffer[0]);
+        this.size = builder.size;
+        this.strings = builder.strings;
+        this.teamDictionary = builder.teamDictionary;
+        this.nationalityDictionary = builder.nationalityDictionary;
+        this.agencyDictionary = builder.agencyDictionary;
+        teamDictionary.freeze();
+        nationalityDictionary.freeze();
+        agencyDictionary.freeze();
+    }
+
+    public static OffHeapPlayerStore of(List<Player> players) {
+        return of(players.iterator());
+    }
+
+    // Игроки не собираются в список, так что можно грузить прямо из CsvParser.streamCsv
+    public static OffHeapPlayerStore of(Iterator<Player> players) {
+        var builder = new Builder();
+        players.forEachRemaining(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int row) {
+        var page = page(row);
+        int offset = offset(row);
+        int length = page.getInt(offset + NAME_LENGTH);
+        return length == NULL_NAME ? null : strings.get(page.getLong(offset + NAME_ADDRESS), length);
+    }
+
+    public int teamId(int row) {
+        return page(row).getInt(offset(row) + TEAM);
+    }
+
+    public byte positionOrdinal(int row) {
+        return page(row).get(offset(row) + POSITION);
+    }
+
+    public Position position(int row) {
+        byte ordinal = positionOrdinal(row);
+        return ordinal == NULL_POSITION ? null : POSITIONS[ordinal];
+    }
+
+    public int nationalityId(int row) {
+        return page(row).getInt(offset(row) + NATIONALITY);
+    }
+
+    public int agencyId(int row) {
+        return page(row).getInt(offset(row) + AGENCY);
+    }
+
+    public int transferCost(int row) {
+        return page(row).getInt(offset(row) + TRANSFER_COST);
+    }
+
+    public int goals(int row) {
+        return page(row).getInt(offset(row) + GOALS);
+    }
+
+    public int redCards(int row) {
+        return page(row).getInt(offset(row) + RED_CARDS);
+    }
+
+    public OffHeapDictionary teamDictionary() {
+        return teamDictionary;
+    }
+
+    public OffHeapDictionary nationalityDictionary() {
+        return nationalityDictionary;
+    }
+
+    public OffHeapDictionary agencyDictionary() {
+        return agencyDictionary;
+    }
+
+    public Player player(int row) {
+        return new Player(name(row), teamDictionary.valueOf(teamId(row)), position(row),
+                nationalityDictionary.valueOf(nationalityId(row)), agencyDictionary.valueOf(agencyId(row)),
+                transferCost(row), goals(row), redCards(row));
+    }
+
+    public List<Player> toPlayers() {
+        var players = new ArrayList<Player>(size);
+        for (int row = 0; row < size; row++) {
+            players.add(player(row));
+        }
+        return players;
+    }
+
+    // Выделенная вне кучи память: страницы записей и строк
+    public long offHeapBytes() {
+        return (long) pages.length * ROWS_PER_PAGE * RECORD_SIZE + strings.allocatedBytes();
+    }
+
+    // Реально занятая часть offHeapBytes: записи и байты строк без незаполненных хвостов страниц
+    public long usedOffHeapBytes() {
+        return (long) size * RECORD_SIZE + strings.bytes();
+    }
+
+    private ByteBuffer page(int row) {
+        return pages[row >>> PAGE_SHIFT];
+    }
+
+    private static int offset(int row) {
+        return (row & (ROWS_PER_PAGE - 1)) * RECORD_SIZE;
+    }
+
+    public static class Builder {
+        private final List<ByteBuffer> pages = new ArrayList<>();
+        private final OffHeapStrings strings = new OffHeapStrings();
+        private final OffHeapDictionary teamDictionary = new OffHeapDictionary(strings);
+        private final OffHeapDictionary nationalityDictionary = new OffHeapDictionary(strings);
+        private final OffHeapDictionary agencyDictionary = new OffHeapDictionary(strings);
+        private int size;
+        private boolean built;
+
+        public Builder add(Player player) {
+            if (built) {
+                throw new IllegalStateException("Store is already built");
+            }
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many players");
+            }
+            if ((size & (ROWS_PER_PAGE - 1)) == 0) {
+                pages.add(ByteBuffer.allocateDirect(ROWS_PER_PAGE * RECORD_SIZE).order(ByteOrder.nativeOrder()));
+            }
+            var page = pages.get(pages.size() - 1);
+            int offset = offset(size);
+            page.putInt(offset + TEAM, teamDictionary.intern(player.team()));
+            page.putInt(offset + NATIONALITY, nationalityDictionary.intern(player.nationality()));
+            page.putInt(offset + AGENCY, agencyDictionary.intern(player.agency()));
+            page.putInt(offset + TRANSFER_COST, player.transferCost());
+            page.putInt(offset + GOALS, player.goals());
+            page.putInt(offset + RED_CARDS, player.redCards());
+            if (player.name() == null) {
+                page.putLong(offset + NAME_ADDRESS, 0);
+                page.putInt(offset + NAME_LENGTH, NULL_NAME);
+            } else {
+                byte[] name = player.name().getBytes(StandardCharsets.UTF_8);
+                page.putLong(offset + NAME_ADDRESS, strings.append(name));
+                page.putInt(offset + NAME_LENGTH, name.length);
+            }
+            page.put(offset + POSITION,
+                    player.position() == null ? NULL_POSITION : (byte) player.position().ordinal());
+            size++;
+            return this;
+        }
+
+        public OffHeapPlayerStore build() {
+            built = true;
+            return new OffHeapPlayerStore(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.table;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Строки в UTF-8 в прямых буферах вне кучи. Строка задаётся адресом (номер страницы *
+// PAGE_SIZE + смещение) и длиной в байтах и целиком лежит в одной странице.
+final class OffHeapStrings {
+    static final int PAGE_SIZE = 1 << 24;
+
+    private final List<ByteBuffer> pages = new ArrayList<>();
+    private ByteBuffer current;
+
+    long append(byte[] bytes) {
+        if (bytes.length > PAGE_SIZE) {
+            throw new IllegalArgumentException("String of " + bytes.length + " bytes does not fit a page");
+        }
+        if (current == null || current.remaining() < bytes.length) {
+            current = ByteBuffer.allocateDirect(PAGE_SIZE);
+            pages.add(current);
+        }
+        long address = (long) (pages.size() - 1) * PAGE_SIZE + current.position();
+        current.put(bytes);
+        return address;
+    }
+
+    String get(long address, int length) {
+        var bytes = new byte[length];
+        pages.get((int) (address / PAGE_SIZE)).get((int) (address % PAGE_SIZE), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    boolean equals(long address, byte[] bytes) {
+        var page = pages.get((int) (address / PAGE_SIZE));
+        int offset = (int) (address % PAGE_SIZE);
+        for (int i = 0; i < bytes.length; i++) {
+            if (page.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Реально занятые байты, а не выделенные страницы
+    long bytes() {
+        return current == null ? 0 : (long) (pages.size() - 1) * PAGE_SIZE + current.position();
+    }
+
+    long allocatedBytes() {
+        return (long) pages.size() * PAGE_SIZE;
+    }
+}
@@ -0,0 +1,342 @@
+package org.example.table;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.parser.CsvParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Двоичный снимок PlayerTable для быстрого перезапуска без разбора CSV.
+//
+// Формат (little-endian):
+//   magic "PLRS", версия формата, число колонок и для каждой - имя и тип,
+//   число строк, словари team/nationality/agency (размер и строки),
+//   затем колонки целиком: name (строки), team, position, nationality, agency,
+//   transferCost, goals, redCards.
+// Строки записываются как длина в байтах UTF-8 и сами байты; null - длина -1.
+public final class PlayerSnapshot {
+    private static final int MAGIC = 0x53524C50; // "PLRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final String[][] SCHEMA = {
+            {"name", "STRING"},
+            {"team", "DICTIONARY"},
+            {"position", "BYTE"},
+            {"nationality", "DICTIONARY"},
+            {"agency", "DICTIONARY"},
+            {"transferCost", "INT"},
+            {"goals", "INT"},
+            {"redCards", "INT"}
+    };
+
+    private PlayerSnapshot() {
+    }
+
+    public static void write(List<Player> players, Path path) throws IOException {
+        write(PlayerTable.of(players), path);
+    }
+
+    // Пишется во временный файл и переименовывается, чтобы читатель не увидел недописанный снимок
+    public static void write(PlayerTable table, Path path) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var out = new ChannelOutput(channel);
+            out.putInt(MAGIC);
+            out.putInt(FORMAT_VERSION);
+            out.putInt(SCHEMA.length);
+            for (String[] column : SCHEMA) {
+                out.putString(column[0]);
+                out.putString(column[1]);
+            }
+            int size = table.size();
+            out.putInt(size);
+            putDictionary(out, table.teamDictionary());
+            putDictionary(out, table.nationalityDictionary());
+            putDictionary(out, table.agencyDictionary());
+            for (int row = 0; row < size; row++) {
+                out.putString(table.name(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putInt(table.teamId(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putByte(table.positionOrdinal(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putInt(table.nationalityId(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putInt(table.agencyId(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putInt(table.transferCost(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putInt(table.goals(row));
+            }
+            for (int row = 0; row < size; row++) {
+                out.putInt(table.redCards(row));
+            }
+            out.flush();
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void putDictionary(ChannelOutput out, StringDictionary dictionary) throws IOException {
+        out.putInt(dictionary.size());
+        for (String value : dictionary.values()) {
+            out.putString(value);
+        }
+    }
+
+    public static PlayerTable read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var in = new MappedInput(channel);
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a player snapshot: " + path);
+            }
+            int version = in.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            int columns = in.getInt();
+            if (columns != SCHEMA.length) {
+                throw new IOException("Unexpected snapshot schema: " + columns + " columns in " + path);
+            }
+            for (String[] column : SCHEMA) {
+                String name = in.getString();
+                String type = in.getString();
+                if (!column[0].equals(name) || !column[1].equals(type)) {
+                    throw new IOException("Unexpected snapshot column " + name + ":" + type + " in " + path);
+                }
+            }
+            // Каждое имя занимает хотя бы 4 байта длины
+            int size = in.getCount(Integer.BYTES);
+            var teamDictionary = getDictionary(in);
+            var nationalityDictionary = getDictionary(in);
+            var agencyDictionary = getDictionary(in);
+            var names = new String[size];
+            for (int row = 0; row < size; row++) {
+                names[row] = in.getString();
+            }
+            int[] teams = in.getInts(size);
+            byte[] positions = in.getBytes(size);
+            int[] nationalities = in.getInts(size);
+            int[] agencies = in.getInts(size);
+            int[] transferCosts = in.getInts(size);
+            int[] goals = in.getInts(size);
+            int[] redCards = in.getInts(size);
+            checkIds(teams, teamDictionary, path);
+            checkIds(nationalities, nationalityDictionary, path);
+            checkIds(agencies, agencyDictionary, path);
+            for (byte position : positions) {
+                if (position < PlayerTable.NULL_POSITION || position >= Position.values().length) {
+                    throw new IOException("Corrupt snapshot: position " + position + " in " + path);
+                }
+            }
+            return new PlayerTable(names, teams, positions, nationalities, agencies, transferCosts, goals, redCards,
+                    teamDictionary, nationalityDictionary, agencyDictionary);
+        }
+    }
+
+    public static List<Player> readPlayers(Path path) throws IOException {
+        return read(path).toPlayers();
+    }
+
+    // Берёт снимок, если он свежее CSV, иначе разбирает CSV и сохраняет новый снимок рядом
+    public static PlayerTable loadOrParse(Path csv, Path snapshot) throws IOException {
+        if (Files.exists(snapshot)
+                && Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(csv)) >= 0) {
+            try {
+                return read(snapshot);
+            } catch (IOException | RuntimeException e) {
+                // Повреждённый или устаревший по формату снимок пересоздаётся; read проверяет
+                // размеры и id, RuntimeException - на случай повреждения, которое проверки пропустили
+            }
+        }
+        var table = PlayerTable.of(CsvParser.parseCsvParallel(csv.toString()));
+        write(table, snapshot);
+        return table;
+    }
+
+    private static void checkIds(int[] ids, StringDictionary dictionary, Path path) throws IOException {
+        for (int id : ids) {
+            if (id < StringDictionary.NULL_ID || id >= dictionary.size()) {
+                throw new IOException("Corrupt snapshot: dictionary id " + id + " in " + path);
+            }
+        }
+    }
+
+    private static StringDictionary getDictionary(MappedInput in) throws IOException {
+        var dictionary = new StringDictionary();
+        int size = in.getCount(Integer.BYTES);
+        for (int i = 0; i < size; i++) {
+            dictionary.intern(in.getString());
+        }
+        return dictionary;
+    }
+
+    private static class ChannelOutput {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+
+        ChannelOutput(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    // Последовательное чтение через окна отображения не больше WINDOW байт,
+    // так что размер файла не ограничен 2 ГБ одного MappedByteBuffer.
+    private static class MappedInput {
+        private static final long WINDOW = 1L << 30;
+
+        private final FileChannel channel;
+        private final long size;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        MappedInput(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            map(0);
+        }
+
+        private void map(long position) throws IOException {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW, size - position));
+            window.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (window.remaining() < bytes) {
+                long position = windowStart + window.position();
+                if (size - position < bytes) {
+                    throw new IOException("Unexpected end of snapshot");
+                }
+                map(position);
+            }
+        }
+
+        int getInt() throws IOException {
+            ensure(Integer.BYTES);
+            return window.getInt();
+        }
+
+        private long remaining() {
+            return size - windowStart - window.position();
+        }
+
+        // Размер или длину из файла сверяем с оставшимися байтами, чтобы повреждённый снимок
+        // давал IOException, а не NegativeArraySizeException или огромный массив
+        private void checkCount(long count, int bytesEach) throws IOException {
+            if (count < 0 || count * bytesEach > remaining()) {
+                throw new IOException("Corrupt snapshot: " + count + " items of " + bytesEach
+                        + " bytes, " + remaining() + " bytes left");
+            }
+        }
+
+        // Число элементов, каждый из которых занимает хотя бы minBytes
+        int getCount(int minBytes) throws IOException {
+            int count = getInt();
+            checkCount(count, minBytes);
+            return count;
+        }
+
+        String getString() throws IOException {
+            int length = getInt();
+            if (length == -1) {
+                return null;
+            }
+            checkCount(length, 1);
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                ensure(1);
+                int chunk = Math.min(window.remaining(), length - offset);
+                window.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        byte[] getBytes(int count) throws IOException {
+            checkCount(count, 1);
+            byte[] values = new byte[count];
+            int offset = 0;
+            while (offset < count) {
+                ensure(1);
+                int chunk = Math.min(window.remaining(), count - offset);
+                window.get(values, offset, chunk);
+                offset += chunk;
+            }
+            return values;
+        }
+
+        int[] getInts(int count) throws IOException {
+            checkCount(count, Integer.BYTES);
+            int[] values = new int[count];
+            int offset = 0;
+            while (offset < count) {
+                ensure(Integer.BYTES);
+                int chunk = Math.min(window.remaining() / Integer.BYTES, count - offset);
+                window.asIntBuffer().get(values, offset, chunk);
+                window.position(window.position() + chunk * Integer.BYTES);
+                offset += chunk;
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.table;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Колоночное хранение игроков: числовые поля в примитивных массивах, позиция - порядковым
+// номером, команда/страна/агентство - id из словарей.
+public class PlayerTable {
+    public static final byte NULL_POSITION = -1;
+
+    private static final Position[] POSITIONS = Position.values();
+
+    private final int size;
+    private final String[] names;
+    private final int[] teams;
+    private final byte[] positions;
+    private final int[] nationalities;
+    private final int[] agencies;
+    private final int[] transferCosts;
+    private final int[] goals;
+    private final int[] redCards;
+    private final StringDictionary teamDictionary;
+    private final StringDictionary nationalityDictionary;
+    private final StringDictionary agencyDictionary;
+
+    private PlayerTable(Builder builder) {
+        this.size = builder.size;
+        this.names = Arrays.copyOf(builder.names, size);
+        this.teams = Arrays.copyOf(builder.teams, size);
+        this.positions = Arrays.copyOf(builder.positions, size);
+        this.nationalities = Arrays.copyOf(builder.nationalities, size);
+        this.agencies = Arrays.copyOf(builder.agencies, size);
+        this.transferCosts = Arrays.copyOf(builder.transferCosts, size);
+        this.goals = Arrays.copyOf(builder.goals, size);
+        this.redCards = Arrays.copyOf(builder.redCards, size);
+        this.teamDictionary = builder.teamDictionary;
+        this.nationalityDictionary = builder.nationalityDictionary;
+        this.agencyDictionary = builder.agencyDictionary;
+    }
+
+    // Для загрузки уже закодированных колонок (например, из снимка); массивы не копируются
+    PlayerTable(String[] names, int[] teams, byte[] positions, int[] nationalities, int[] agencies,
+                int[] transferCosts, int[] goals, int[] redCards, StringDictionary teamDictionary,
+                StringDictionary nationalityDictionary, StringDictionary agencyDictionary) {
+        this.size = names.length;
+        this.names = names;
+        this.teams = teams;
+        this.positions = positions;
+        this.nationalities = nationalities;
+        this.agencies = agencies;
+        this.transferCosts = transferCosts;
+        this.goals = goals;
+        this.redCards = redCards;
+        this.teamDictionary = teamDictionary;
+        this.nationalityDictionary = nationalityDictionary;
+        this.agencyDictionary = agencyDictionary;
+    }
+
+    public static PlayerTable of(List<Player> players) {
+        var builder = new Builder(players.size());
+        players.forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public int teamId(int row) {
+        return teams[row];
+    }
+
+    public byte positionOrdinal(int row) {
+        return positions[row];
+    }
+
+    public Position position(int row) {
+        return positions[row] == NULL_POSITION ? null : POSITIONS[positions[row]];
+    }
+
+    public int nationalityId(int row) {
+        return nationalities[row];
+    }
+
+    public int agencyId(int row) {
+        return agencies[row];
+    }
+
+    public int transferCost(int row) {
+        return transferCosts[row];
+    }
+
+    public int goals(int row) {
+        return goals[row];
+    }
+
+    public int redCards(int row) {
+        return redCards[row];
+    }
+
+    // Колонки целиком, без копирования, для ядер ColumnKernels; изменять их нельзя
+    public int[] teamColumn() {
+        return teams;
+    }
+
+    public byte[] positionColumn() {
+        return positions;
+    }
+
+    public int[] nationalityColumn() {
+        return nationalities;
+    }
+
+    public int[] agencyColumn() {
+        return agencies;
+    }
+
+    public int[] transferCostColumn() {
+        return transferCosts;
+    }
+
+    public int[] goalsColumn() {
+        return goals;
+    }
+
+    public int[] redCardsColumn() {
+        return redCards;
+    }
+
+    public StringDictionary teamDictionary() {
+        return teamDictionary;
+    }
+
+    public StringDictionary nationalityDictionary() {
+        return nationalityDictionary;
+    }
+
+    public StringDictionary agencyDictionary() {
+        return agencyDictionary;
+    }
+
+    public Player player(int row) {
+        return new Player(names[row], teamDictionary.valueOf(teams[row]), position(row),
+                nationalityDictionary.valueOf(nationalities[row]), agencyDictionary.valueOf(agencies[row]),
+                transferCosts[row], goals[row], redCards[row]);
+    }
+
+    public List<Player> toPlayers() {
+        var players = new ArrayList<Player>(size);
+        for (int row = 0; row < size; row++) {
+            players.add(player(row));
+        }
+        return players;
+    }
+
+    public static class Builder {
+        private int size;
+        private String[] names;
+        private int[] teams;
+        private byte[] positions;
+        private int[] nationalities;
+        private int[] agencies;
+        private int[] transferCosts;
+        private int[] goals;
+        private int[] redCards;
+        private final StringDictionary teamDictionary = new StringDictionary();
+        private final StringDictionary nationalityDictionary = new StringDictionary();
+        private final StringDictionary agencyDictionary = new StringDictionary();
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 1);
+            names = new String[capacity];
+            teams = new int[capacity];
+            positions = new byte[capacity];
+            nationalities = new int[capacity];
+            agencies = new int[capacity];
+            transferCosts = new int[capacity];
+            goals = new int[capacity];
+            redCards = new int[capacity];
+        }
+
+        public Builder add(Player player) {
+            ensureCapacity();
+            names[size] = player.name();
+            teams[size] = teamDictionary.intern(player.team());
+            positions[size] = player.position() == null ? NULL_POSITION : (byte) player.position().ordinal();
+            nationalities[size] = nationalityDictionary.intern(player.nationality());
+            agencies[size] = agencyDictionary.intern(player.agency());
+            transferCosts[size] = player.transferCost();
+            goals[size] = player.goals();
+            redCards[size] = player.redCards();
+            size++;
+            return this;
+        }
+
+        private void ensureCapacity() {
+            if (size < names.length) {
+                return;
+            }
+            int capacity = names.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            teams = Arrays.copyOf(teams, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            nationalities = Arrays.copyOf(nationalities, capacity);
+            agencies = Arrays.copyOf(agencies, capacity);
+            transferCosts = Arrays.copyOf(transferCosts, capacity);
+            goals = Arrays.copyOf(goals, capacity);
+            redCards = Arrays.copyOf(redCards, capacity);
+        }
+
+        public PlayerTable build() {
+            return new PlayerTable(this);
+        }
+    }
+}
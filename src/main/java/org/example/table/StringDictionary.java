@@ -0,0 +1,40 @@
+package org.example.table;
+
+import java.util.Collections;
+import java.util.List;
+
+// Словарь строк: каждой различной строке присваивается id в порядке первого появления.
+// null кодируется как NULL_ID.
+public class StringDictionary {
+    public static final int NULL_ID = -1;
+
+    private final ObjectIndex<String> ids = new ObjectIndex<>();
+
+    public int intern(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        return ids.add(value);
+    }
+
+    // id строки или NULL_ID, если такой строки нет в словаре
+    public int find(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        int id = ids.indexOf(value);
+        return id == ObjectIndex.ABSENT ? NULL_ID : id;
+    }
+
+    public String valueOf(int id) {
+        return id == NULL_ID ? null : ids.keyAt(id);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public List<String> values() {
+        return Collections.unmodifiableList(ids.keys());
+    }
+}
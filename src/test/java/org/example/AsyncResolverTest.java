@@ -0,0 +1,158 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.resolver.AsyncResolver;
+import org.example.resolver.IResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncResolverTest {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    private static final List<Player> PLAYERS = List.of(
+            new Player("Мануэль Нойер", "Бавария", Position.GOALKEEPER, "Germany", "Агентство1", 5000, 0, 1),
+            new Player("Серхио Рамос", "Реал", Position.DEFENDER, "Spain", "", 6000, 9, 5),
+            new Player("Жерар Пике", "Барселона", Position.DEFENDER, "Spain", "Агентство2", 7000, 4, 2));
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    void answers_SameAsDelegate() {
+        var streams = new Streams(PLAYERS);
+        try (var resolver = new AsyncResolver(streams)) {
+            assertEquals(streams.computeAll(), resolver.computeAll().join());
+            assertEquals(9, resolver.getMaxDefenderGoalsCount().join());
+            assertEquals("Вратарь", resolver.getTheExpensiveGermanPlayerPosition().join());
+        }
+    }
+
+    @Test
+    void concurrentIdenticalQueries_RunOnce() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getTop5TeamsByGoalsCount()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Map.of("Реал", 9);
+        });
+        var resolver = AsyncResolver.builder(delegate).executor(EXECUTOR).build();
+
+        var first = resolver.getTop5TeamsByGoalsCount();
+        started.await();
+        var second = resolver.getTop5TeamsByGoalsCount();
+        assertEquals(1, resolver.getInFlightCount());
+        release.countDown();
+
+        assertEquals(Map.of("Реал", 9), first.join());
+        assertEquals(Map.of("Реал", 9), second.join());
+        verify(delegate, times(1)).getTop5TeamsByGoalsCount();
+        assertEquals(1, resolver.getDeduplicatedCount());
+    }
+
+    @Test
+    void sharedResults_AreUnmodifiable() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getTeams()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new HashSet<>(Set.of("Реал"));
+        });
+        when(delegate.getPlayersByPosition())
+                .thenReturn(new HashMap<>(Map.of(Position.DEFENDER, new ArrayList<>(List.of("Серхио Рамос")))));
+        var resolver = AsyncResolver.builder(delegate).executor(EXECUTOR).build();
+
+        var first = resolver.getTeams();
+        started.await();
+        var second = resolver.getTeams();
+        release.countDown();
+
+        assertThrows(UnsupportedOperationException.class, () -> first.join().add("Бавария"));
+        assertEquals(Set.of("Реал"), second.join());
+        var byPosition = resolver.getPlayersByPosition().join();
+        assertThrows(UnsupportedOperationException.class, () -> byPosition.remove(Position.DEFENDER));
+        assertThrows(UnsupportedOperationException.class, () -> byPosition.get(Position.DEFENDER).clear());
+    }
+
+    @Test
+    void setPlayers_NewVersionIsNotDeduplicated() throws Exception {
+        var release = new CountDownLatch(1);
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getCountWithoutAgency()).thenAnswer(invocation -> {
+            release.await();
+            return 1;
+        });
+        var resolver = AsyncResolver.builder(delegate).executor(EXECUTOR).build();
+
+        var before = resolver.getCountWithoutAgency();
+        resolver.setPlayers(PLAYERS);
+        var after = resolver.getCountWithoutAgency();
+        release.countDown();
+        before.join();
+        after.join();
+
+        assertEquals(1, resolver.getVersion());
+        assertEquals(0, resolver.getDeduplicatedCount());
+        verify(delegate, times(2)).getCountWithoutAgency();
+        verify(delegate).setPlayers(PLAYERS);
+    }
+
+    @Test
+    void cancel_DoesNotAffectOtherCallers() throws Exception {
+        var release = new CountDownLatch(1);
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getTheRudestTeam()).thenAnswer(invocation -> {
+            release.await();
+            return "Реал";
+        });
+        var resolver = AsyncResolver.builder(delegate).executor(EXECUTOR).build();
+
+        var cancelled = resolver.getTheRudestTeam();
+        var other = resolver.getTheRudestTeam();
+        assertTrue(cancelled.cancel(true));
+        release.countDown();
+
+        assertEquals("Реал", other.join());
+        assertTrue(cancelled.isCancelled());
+    }
+
+    @Test
+    void failure_PropagatesAndIsNotRemembered() {
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getTeams()).thenThrow(new IllegalStateException("boom")).thenReturn(Set.of("Реал"));
+        var resolver = AsyncResolver.builder(delegate).executor(EXECUTOR).build();
+
+        var error = assertThrows(CompletionException.class, () -> resolver.getTeams().join());
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(Set.of("Реал"), resolver.getTeams().join());
+        assertEquals(0, resolver.getInFlightCount());
+    }
+
+    @Test
+    void virtualThreadExecutor_PresentSinceJava21() {
+        var executor = AsyncResolver.virtualThreadExecutor();
+        assertEquals(Runtime.version().feature() >= 21, executor.isPresent());
+        executor.ifPresent(ExecutorService::shutdown);
+    }
+}
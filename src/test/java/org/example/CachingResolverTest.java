@@ -0,0 +1,139 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.resolver.CachingResolver;
+import org.example.resolver.IResolver;
+import org.example.resolver.IncrementalResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingResolverTest {
+
+    @Test
+    void repeatedQuery_CallsDelegateOnce() {
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getTop5TeamsByGoalsCount()).thenReturn(Map.of("КомандаA", 10));
+        var resolver = new CachingResolver(delegate);
+
+        assertEquals(Map.of("КомандаA", 10), resolver.getTop5TeamsByGoalsCount());
+        assertEquals(Map.of("КомандаA", 10), resolver.getTop5TeamsByGoalsCount());
+        assertEquals(Map.of("КомандаA", 10), resolver.getTop5TeamsByGoalsCount());
+
+        verify(delegate, times(1)).getTop5TeamsByGoalsCount();
+        assertEquals(2, resolver.getStats().hits());
+        assertEquals(1, resolver.getStats().misses());
+    }
+
+    @Test
+    void nullAnswer_IsCached() {
+        IResolver delegate = mock(IResolver.class);
+        var resolver = new CachingResolver(delegate);
+
+        assertNull(resolver.getTheExpensiveGermanPlayerPosition());
+        assertNull(resolver.getTheExpensiveGermanPlayerPosition());
+
+        verify(delegate, times(1)).getTheExpensiveGermanPlayerPosition();
+    }
+
+    @Test
+    void setPlayers_InvalidatesCachedAnswers() {
+        var streams = new Streams(List.of(
+                new Player("A", "КомандаA", Position.FORWARD, "Germany", "Ag", 100, 5, 3)));
+        var resolver = new CachingResolver(streams);
+        assertEquals("КомандаA", resolver.getTheRudestTeam());
+
+        resolver.setPlayers(List.of(
+                new Player("B", "КомандаB", Position.FORWARD, "Germany", "Ag", 100, 5, 3)));
+
+        assertEquals("КомандаB", resolver.getTheRudestTeam());
+        assertEquals(1, resolver.getVersion());
+        assertEquals(2, resolver.getStats().misses());
+    }
+
+    @Test
+    void versionedDelegateChangedDirectly_ReloadsAnswer() {
+        var incremental = new IncrementalResolver(List.of(
+                new Player("A", "КомандаA", Position.FORWARD, "Germany", "Ag", 100, 5, 0)));
+        var resolver = new CachingResolver(incremental);
+        assertEquals(Map.of("КомандаA", 5), resolver.getTop5TeamsByGoalsCount());
+
+        incremental.add(new Player("B", "КомандаA", Position.FORWARD, "Germany", "Ag", 100, 2, 0));
+
+        assertEquals(Map.of("КомандаA", 7), resolver.getTop5TeamsByGoalsCount());
+        assertEquals(2, resolver.getStats().misses());
+    }
+
+    // Изменения делегата без Versioned кеш не видит - их нужно проводить через кеш
+    @Test
+    void plainDelegateChangedDirectly_StaleUntilInvalidate() {
+        var streams = new Streams(List.of(
+                new Player("A", "КомандаA", Position.FORWARD, "Germany", "Ag", 100, 5, 3)));
+        var resolver = new CachingResolver(streams);
+        assertEquals("КомандаA", resolver.getTheRudestTeam());
+
+        streams.setPlayers(List.of(
+                new Player("B", "КомандаB", Position.FORWARD, "Germany", "Ag", 100, 5, 3)));
+        assertEquals("КомандаA", resolver.getTheRudestTeam());
+
+        resolver.invalidate();
+        assertEquals("КомандаB", resolver.getTheRudestTeam());
+    }
+
+    @Test
+    void ttlElapsed_ReloadsAnswer() {
+        IResolver delegate = mock(IResolver.class);
+        when(delegate.getCountWithoutAgency()).thenReturn(1, 2);
+        var now = new AtomicLong();
+        var resolver = CachingResolver.builder(delegate)
+                .ttl(Duration.ofSeconds(10))
+                .ticker(now::get)
+                .build();
+
+        assertEquals(1, resolver.getCountWithoutAgency());
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals(1, resolver.getCountWithoutAgency());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(2, resolver.getCountWithoutAgency());
+
+        verify(delegate, times(2)).getCountWithoutAgency();
+        assertEquals(1, resolver.getStats().expirations());
+        assertEquals(0, resolver.getStats().evictions());
+    }
+
+    @Test
+    void maxEntries_EvictsLeastRecentlyUsed() {
+        IResolver delegate = mock(IResolver.class);
+        var resolver = CachingResolver.builder(delegate).maxEntries(2).build();
+
+        resolver.getCountWithoutAgency();
+        resolver.getMaxDefenderGoalsCount();
+        resolver.getCountWithoutAgency();
+        resolver.getTheRudestTeam();
+        resolver.getCountWithoutAgency();
+        resolver.getMaxDefenderGoalsCount();
+
+        verify(delegate, times(1)).getCountWithoutAgency();
+        verify(delegate, times(2)).getMaxDefenderGoalsCount();
+        assertEquals(2, resolver.getStats().evictions());
+        assertEquals(0, resolver.getStats().expirations());
+    }
+
+    @Test
+    void cachedCollections_AreUnmodifiable() {
+        var resolver = new CachingResolver(new Streams(List.of(
+                new Player("A", "КомандаA", Position.FORWARD, "Germany", "Ag", 100, 5, 3))));
+
+        assertThrows(UnsupportedOperationException.class, () -> resolver.getTeams().add("КомандаB"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> resolver.getPlayersByPosition().get(Position.FORWARD).add("B"));
+    }
+}
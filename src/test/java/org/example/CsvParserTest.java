@@ -0,0 +1,271 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.parser.CsvParser;
+import org.example.parser.ErrorBudgetExceededException;
+import org.example.parser.MalformedRow;
+import org.example.parser.ParseOptions;
+import org.example.parser.PlayerField;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvParserTest {
+    private static final String HEADER =
+            "Name;Team;City;Position;Nationality;Agency;Transfer cost;Participations;Goals;Assists;Yellow cards;Red cards";
+    private static final String SAMPLE = "fakePlayers.csv";
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeCsv(String content) throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void parseCsvToList_SampleFile_ParsesAllRows() throws IOException {
+        List<Player> players = CsvParser.parseCsvToList(SAMPLE);
+        assertEquals(Files.readAllLines(Path.of(SAMPLE)).size() - 1, players.size());
+        assertEquals(new Player("Iva Streich", "Nevada whales", Position.MIDFIELD, "Colombia", "D'Amore LLC",
+                374808, 19, 7), players.get(0));
+    }
+
+    @Test
+    void parseCsvToList_EmptyAgencyAndCrLf_ParsesRows() throws IOException {
+        Path file = writeCsv(HEADER + "\r\n"
+                + "Иванов Иван;Бульдоги;Москва;DEFENDER;Russia;;1000;10;5;1;2;3\r\n"
+                + "Петр Петров;Корги;Казань;FORWARD;Germany;Агентство;2000;11;6;2;3;4");
+
+        List<Player> players = CsvParser.parseCsvToList(file.toString());
+
+        assertEquals(List.of(
+                new Player("Иванов Иван", "Бульдоги", Position.DEFENDER, "Russia", "", 1000, 5, 3),
+                new Player("Петр Петров", "Корги", Position.FORWARD, "Germany", "Агентство", 2000, 6, 4)
+        ), players);
+    }
+
+    @Test
+    void parseCsvToList_RowLongerThanBuffer_ParsesRow() throws IOException {
+        String name = "N".repeat(200_000);
+        Path file = writeCsv(HEADER + "\n" + name + ";T;C;GOALKEEPER;Spain;A;1;2;3;4;5;6\n");
+
+        List<Player> players = CsvParser.parseCsvToList(file.toString());
+
+        assertEquals(1, players.size());
+        assertEquals(name, players.get(0).name());
+        assertEquals(6, players.get(0).redCards());
+    }
+
+    @Test
+    void parseCsvToList_ExtraColumnsAndSignedNumbers_ParsesKnownColumns() throws IOException {
+        Path file = writeCsv(HEADER + "\n"
+                + "A;T;C;MIDFIELD;Spain;Ag;+2147483647;1;-5;1;1;0;extra;columns\n");
+
+        List<Player> players = CsvParser.parseCsvToList(file.toString());
+
+        assertEquals(List.of(new Player("A", "T", Position.MIDFIELD, "Spain", "Ag", Integer.MAX_VALUE, -5, 0)),
+                players);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "A;T;C;MIDFIELD;Spain;Ag;100;1;2;1;1",
+            "A;T;C;STRIKER;Spain;Ag;100;1;2;1;1;0",
+            "A;T;C;MIDFIELD;Spain;Ag;1x0;1;2;1;1;0",
+            "A;T;C;MIDFIELD;Spain;Ag;2147483648;1;2;1;1;0",
+            "A;T;C;MIDFIELD;Spain;Ag;100;1;;1;1;0"
+    })
+    void parseCsvToList_MalformedRow_ThrowsIllegalArgumentException(String row) throws IOException {
+        Path file = writeCsv(HEADER + "\n" + row + "\n");
+        assertThrows(IllegalArgumentException.class, () -> CsvParser.parseCsvToList(file.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2})
+    void parseCsv_ColumnsInAnotherOrder_MappedByHeader(int threads) throws IOException {
+        Path file = writeCsv("\uFEFFred cards;Goals;Extra;Agency;Nationality;Position;Team;Name;Transfer Cost\n"
+                + "5;2;x;Ag;Spain;FORWARD;T;Игрок;100\n");
+        var expected = List.of(new Player("Игрок", "T", Position.FORWARD, "Spain", "Ag", 100, 2, 5));
+
+        assertEquals(expected, threads == 0
+                ? CsvParser.parseCsvToList(file.toString())
+                : CsvParser.parseCsvParallel(file.toString(), threads));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2})
+    void parseCsv_Projection_DecodesOnlyRequestedColumns(int threads) throws IOException {
+        // Испорченные колонки после Nationality не читаются
+        Path file = writeCsv(HEADER + "\nA;T;C;STRIKER;Spain;Ag;x;1;2\nB;T;C;FORWARD;Italy\n");
+        var options = ParseOptions.strict().project(PlayerField.NATIONALITY, PlayerField.TEAM).build();
+
+        var players = threads == 0
+                ? CsvParser.parseCsvToList(file.toString(), options)
+                : CsvParser.parseCsvParallel(file.toString(), threads, options);
+
+        assertEquals(List.of(
+                new Player(null, "T", null, "Spain", null, 0, 0, 0),
+                new Player(null, "T", null, "Italy", null, 0, 0, 0)), players);
+    }
+
+    @Test
+    void parseCsv_HeaderWithoutRequiredColumn_Throws() throws IOException {
+        Path file = writeCsv("Name;Team;Position\nA;T;FORWARD\n");
+
+        assertThrows(IllegalArgumentException.class, () -> CsvParser.parseCsvToList(file.toString()));
+        assertEquals(1, CsvParser.parseCsvToList(file.toString(),
+                ParseOptions.strict().project(PlayerField.POSITION).build()).size());
+    }
+
+    @Test
+    void parseCsvToList_HeaderOnly_ReturnsEmptyList() throws IOException {
+        Path file = writeCsv(HEADER + "\n");
+        assertTrue(CsvParser.parseCsvToList(file.toString()).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 8, 64})
+    void parseCsvParallel_SampleFile_MatchesSequentialOrder(int threads) throws IOException {
+        assertEquals(CsvParser.parseCsvToList(SAMPLE), CsvParser.parseCsvParallel(SAMPLE, threads));
+    }
+
+    @Test
+    void parseCsvParallel_CrLfWithoutTrailingNewline_ParsesAllRows() throws IOException {
+        var content = new StringBuilder(HEADER).append("\r\n");
+        for (int i = 0; i < 100; i++) {
+            content.append("Игрок").append(i).append(";T;C;FORWARD;Spain;Ag;").append(i).append(";1;2;3;4;5");
+            if (i < 99) {
+                content.append("\r\n");
+            }
+        }
+        Path file = writeCsv(content.toString());
+
+        List<Player> players = CsvParser.parseCsvParallel(file.toString(), 7);
+
+        assertEquals(CsvParser.parseCsvToList(file.toString()), players);
+        assertEquals(100, players.size());
+        assertEquals("Игрок99", players.get(99).name());
+    }
+
+    @Test
+    void parseCsvParallel_MalformedRow_Throws() throws IOException {
+        Path file = writeCsv(HEADER + "\nA;T;C;STRIKER;Spain;Ag;1;1;2;1;1;0\n");
+        assertThrows(IllegalArgumentException.class, () -> CsvParser.parseCsvParallel(file.toString(), 2));
+    }
+
+    private Path writeWithMalformedRows() throws IOException {
+        var content = new StringBuilder(HEADER).append("\n");
+        for (int i = 0; i < 100; i++) {
+            if (i % 25 == 10) {
+                content.append("Игрок").append(i).append(";T;C;STRIKER;Spain;Ag;1;1;2;1;1;0\n");
+            } else if (i == 50) {
+                content.append("\n");
+            } else {
+                content.append("Игрок").append(i).append(";T;C;FORWARD;Spain;Ag;").append(i).append(";1;2;3;4;5\n");
+            }
+        }
+        return writeCsv(content.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 8})
+    void parseCsv_Lenient_QuarantinesMalformedRowsWithLineNumbers(int threads) throws IOException {
+        Path file = writeWithMalformedRows();
+        var quarantined = new ArrayList<MalformedRow>();
+        var options = ParseOptions.lenient().quarantine(quarantined::add).build();
+
+        List<Player> players = threads == 0
+                ? CsvParser.parseCsvToList(file.toString(), options)
+                : CsvParser.parseCsvParallel(file.toString(), threads, options);
+
+        assertEquals(95, players.size());
+        assertEquals(List.of(12L, 37L, 62L, 87L), quarantined.stream().map(MalformedRow::lineNumber).toList());
+        assertEquals("Игрок10;T;C;STRIKER;Spain;Ag;1;1;2;1;1;0", quarantined.get(0).line());
+        assertTrue(quarantined.get(0).error().contains("STRIKER"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3})
+    void parseCsv_Lenient_ErrorBudgetExceeded_Throws(int threads) throws IOException {
+        Path file = writeWithMalformedRows();
+        var options = ParseOptions.lenient().maxMalformedRows(3).build();
+
+        var exception = assertThrows(ErrorBudgetExceededException.class, () -> {
+            if (threads == 0) {
+                CsvParser.parseCsvToList(file.toString(), options);
+            } else {
+                CsvParser.parseCsvParallel(file.toString(), threads, options);
+            }
+        });
+
+        assertEquals(4, exception.malformedRows());
+        assertEquals(87, exception.lastMalformed().lineNumber());
+    }
+
+    @Test
+    void parseCsv_Lenient_MalformedRatioExceeded_Throws() throws IOException {
+        Path file = writeWithMalformedRows();
+
+        assertThrows(ErrorBudgetExceededException.class, () -> CsvParser.parseCsvToList(file.toString(),
+                ParseOptions.lenient().maxMalformedRatio(0.01).build()));
+        assertEquals(95, CsvParser.parseCsvParallel(file.toString(), 2,
+                ParseOptions.lenient().maxMalformedRatio(0.05).build()).size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void parseCsv_RepeatedValues_ShareOneStringInstance(int threads) throws IOException {
+        for (List<Player> players : List.of(CsvParser.parseCsvToList(SAMPLE), CsvParser.parseCsvParallel(SAMPLE, threads))) {
+            var teams = new IdentityHashMap<String, Boolean>();
+            var nationalities = new IdentityHashMap<String, Boolean>();
+            var agencies = new IdentityHashMap<String, Boolean>();
+            for (Player player : players) {
+                teams.put(player.team(), true);
+                nationalities.put(player.nationality(), true);
+                agencies.put(player.agency(), true);
+            }
+            assertEquals(players.stream().map(Player::team).distinct().count(), teams.size());
+            assertEquals(players.stream().map(Player::nationality).distinct().count(), nationalities.size());
+            assertEquals(players.stream().map(Player::agency).distinct().count(), agencies.size());
+        }
+    }
+
+    @Test
+    void streamCsv_SampleFile_MatchesList() throws IOException {
+        List<Player> expected = CsvParser.parseCsvToList(SAMPLE);
+        try (var players = CsvParser.streamCsv(SAMPLE)) {
+            assertEquals(expected, players.toList());
+        }
+    }
+
+    @Test
+    void streamsFromCsv_SampleFile_MatchesInMemoryStreams() throws IOException {
+        var inMemory = new Streams(CsvParser.parseCsvToList(SAMPLE));
+        var streaming = Streams.fromCsv(SAMPLE);
+
+        assertEquals(inMemory.getCountWithoutAgency(), streaming.getCountWithoutAgency());
+        assertEquals(inMemory.getMaxDefenderGoalsCount(), streaming.getMaxDefenderGoalsCount());
+        assertEquals(inMemory.getTheExpensiveGermanPlayerPosition(), streaming.getTheExpensiveGermanPlayerPosition());
+        assertEquals(inMemory.getPlayersByPosition(), streaming.getPlayersByPosition());
+        assertEquals(inMemory.getTeams(), streaming.getTeams());
+        assertEquals(inMemory.getTop5TeamsByGoalsCount(), streaming.getTop5TeamsByGoalsCount());
+        assertEquals(inMemory.getAgencyWithMinPlayersCount(), streaming.getAgencyWithMinPlayersCount());
+        assertEquals(inMemory.getTheRudestTeam(), streaming.getTheRudestTeam());
+        assertEquals(inMemory.getPlayers(), streaming.getPlayers());
+    }
+}
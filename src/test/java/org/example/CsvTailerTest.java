@@ -0,0 +1,196 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.parser.CsvParser;
+import org.example.parser.CsvTailer;
+import org.example.parser.ErrorBudgetExceededException;
+import org.example.parser.MalformedRow;
+import org.example.parser.ParseOptions;
+import org.example.resolver.IncrementalResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTailerTest {
+    private static final String HEADER =
+            "Name;Team;City;Position;Nationality;Agency;Transfer cost;Participations;Goals;Assists;Yellow cards;Red cards";
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Player> received = new ArrayList<>();
+    private int truncations;
+
+    private final CsvTailer.Listener listener = new CsvTailer.Listener() {
+        @Override
+        public void onRows(List<Player> players) {
+            received.addAll(players);
+        }
+
+        @Override
+        public void onTruncated() {
+            truncations++;
+            received.clear();
+        }
+    };
+
+    private static String row(int i) {
+        return "Игрок" + i + ";T" + i % 3 + ";C;DEFENDER;Germany;Ag" + i % 2 + ";" + i + ";1;" + i + ";0;0;" + i % 4 + "\n";
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void poll_ReadsOnlyAppendedCompleteLines() throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n" + row(0) + row(1));
+        var tailer = new CsvTailer(file, ParseOptions.STRICT, listener);
+
+        assertEquals(2, tailer.poll());
+        assertEquals(0, tailer.poll());
+
+        String third = row(2);
+        append(file, third.substring(0, 10));
+        assertEquals(0, tailer.poll());
+        append(file, third.substring(10) + row(3));
+        assertEquals(2, tailer.poll());
+
+        assertEquals(Files.size(file), tailer.offset());
+        assertEquals(CsvParser.parseCsvToList(file.toString()), received);
+    }
+
+    @Test
+    void poll_TruncatedFile_ReadFromStart() throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n" + row(0) + row(1) + row(2));
+        var tailer = new CsvTailer(file, ParseOptions.STRICT, listener);
+        tailer.poll();
+
+        Files.writeString(file, HEADER + "\n" + row(5));
+        assertEquals(1, tailer.poll());
+
+        assertEquals(1, truncations);
+        assertEquals(CsvParser.parseCsvToList(file.toString()), received);
+    }
+
+    @Test
+    void poll_ReplacedByLongerFile_ReadFromStart() throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n" + row(0) + row(1));
+        var tailer = new CsvTailer(file, ParseOptions.STRICT, listener);
+        tailer.poll();
+
+        Path rotated = tempDir.resolve("players.csv.new");
+        Files.writeString(rotated, HEADER + "\n" + row(5) + row(6) + row(7));
+        Files.move(rotated, file, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(3, tailer.poll());
+
+        assertEquals(1, truncations);
+        assertEquals(CsvParser.parseCsvToList(file.toString()), received);
+    }
+
+    @Test
+    void poll_Lenient_QuarantinesWithFileLineNumbers() throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n" + row(0));
+        var quarantined = new ArrayList<MalformedRow>();
+        var tailer = new CsvTailer(file, ParseOptions.lenient().quarantine(quarantined::add).build(), listener);
+        tailer.poll();
+
+        append(file, "broken\n" + row(1));
+        assertEquals(1, tailer.poll());
+
+        assertEquals(List.of(new MalformedRow(3, "broken", quarantined.get(0).error())), quarantined);
+        assertEquals(2, received.size());
+    }
+
+    // Ошибка после нескольких блоков по 64 КиБ: разобранное до неё доставлено, повтор начинается с неё
+    @Test
+    void poll_StrictErrorAfterLargeAppend_DeliversEarlierRowsAndRetriesFailedLine() throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n" + row(0));
+        var tailer = new CsvTailer(file, ParseOptions.STRICT, listener);
+        tailer.poll();
+        var appended = new StringBuilder();
+        for (int i = 1; i <= 3000; i++) {
+            appended.append(row(i));
+        }
+        append(file, appended + "broken\n" + row(3001));
+        long brokenOffset = Files.size(file) - (row(3001) + "broken\n").getBytes(StandardCharsets.UTF_8).length;
+
+        var first = assertThrows(IllegalArgumentException.class, tailer::poll);
+        assertEquals(3001, received.size());
+        assertEquals(brokenOffset, tailer.offset());
+
+        var second = assertThrows(IllegalArgumentException.class, tailer::poll);
+        assertEquals(first.getMessage(), second.getMessage());
+        assertEquals(3001, received.size());
+    }
+
+    @Test
+    void poll_ErrorBudgetExceededAfterLargeAppend_ContinuesAfterQuarantinedLine() throws IOException {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n");
+        var quarantined = new ArrayList<MalformedRow>();
+        var options = ParseOptions.lenient().quarantine(quarantined::add).maxMalformedRows(1).build();
+        var tailer = new CsvTailer(file, options, listener);
+        var appended = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            appended.append(row(i));
+        }
+        append(file, appended + "broken1\n" + row(3000) + "broken2\n" + row(3001));
+
+        assertThrows(ErrorBudgetExceededException.class, tailer::poll);
+        assertEquals(3001, received.size());
+        assertEquals(List.of(3002L, 3004L), quarantined.stream().map(MalformedRow::lineNumber).toList());
+
+        assertEquals(1, tailer.poll());
+        append(file, row(3002));
+        assertEquals(1, tailer.poll());
+        assertEquals(2, quarantined.size());
+        assertEquals(3003, received.size());
+    }
+
+    @Test
+    void run_PushesAppendedRowsIntoIncrementalResolver() throws Exception {
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n" + row(0));
+        var resolver = new IncrementalResolver();
+        var tailer = new CsvTailer(file, ParseOptions.STRICT, resolver::addAll, Duration.ofMillis(50));
+        var thread = tailer.start();
+        try {
+            var expected = new StringBuilder(row(0));
+            for (int i = 1; i < 20; i++) {
+                append(file, row(i));
+                expected.append(row(i));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (resolver.size() < 20 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+
+            var all = CsvParser.parseCsvToList(file.toString());
+            assertEquals(all, resolver.getPlayers());
+            assertEquals(new Streams(all).computeAll(), resolver.computeAll());
+        } finally {
+            tailer.close();
+            thread.join(5000);
+        }
+        assertFalse(thread.isAlive());
+    }
+}
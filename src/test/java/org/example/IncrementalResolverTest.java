@@ -0,0 +1,98 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.resolver.IncrementalResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalResolverTest {
+
+    private static Player randomPlayer(Random random, int i) {
+        int agency = random.nextInt(6);
+        return new Player("Игрок" + i, "Команда" + random.nextInt(8),
+                Position.values()[random.nextInt(Position.values().length)],
+                random.nextBoolean() ? "Germany" : "Spain",
+                agency == 0 ? "" : "Агентство" + agency,
+                random.nextInt(50), random.nextInt(10), random.nextInt(4));
+    }
+
+    private static void assertSameAnswers(List<Player> players, IncrementalResolver resolver) {
+        var expected = new Streams(new ArrayList<>(players));
+        assertEquals(expected.getPlayers(), resolver.getPlayers());
+        assertEquals(expected.getCountWithoutAgency(), resolver.getCountWithoutAgency());
+        assertEquals(expected.getMaxDefenderGoalsCount(), resolver.getMaxDefenderGoalsCount());
+        assertEquals(expected.getTheExpensiveGermanPlayerPosition(), resolver.getTheExpensiveGermanPlayerPosition());
+        assertEquals(expected.getPlayersByPosition(), resolver.getPlayersByPosition());
+        assertEquals(expected.getTeams(), resolver.getTeams());
+        assertEquals(new ArrayList<>(expected.getTop5TeamsByGoalsCount().entrySet()),
+                new ArrayList<>(resolver.getTop5TeamsByGoalsCount().entrySet()));
+        assertEquals(expected.getAgencyWithMinPlayersCount(), resolver.getAgencyWithMinPlayersCount());
+        assertEquals(expected.getTheRudestTeam(), resolver.getTheRudestTeam());
+    }
+
+    @Test
+    void randomAddRemoveUpdate_MatchesStreamsAfterEveryChange() {
+        var random = new Random(7);
+        var players = new ArrayList<Player>();
+        var resolver = new IncrementalResolver();
+
+        for (int step = 0; step < 600; step++) {
+            int operation = random.nextInt(4);
+            if (players.isEmpty() || operation < 2) {
+                var player = randomPlayer(random, step);
+                players.add(player);
+                resolver.add(player);
+            } else if (operation == 2) {
+                var player = players.get(random.nextInt(players.size()));
+                players.remove(player);
+                assertTrue(resolver.remove(player));
+            } else {
+                int index = random.nextInt(players.size());
+                var oldPlayer = players.get(index);
+                var newPlayer = randomPlayer(random, step);
+                players.set(players.indexOf(oldPlayer), newPlayer);
+                assertTrue(resolver.update(oldPlayer, newPlayer));
+            }
+            assertSameAnswers(players, resolver);
+        }
+    }
+
+    @Test
+    void removeAll_ReturnsDefaults() {
+        var player = new Player("A", "T", Position.DEFENDER, "Germany", "Ag", 10, 5, 1);
+        var resolver = new IncrementalResolver(List.of(player));
+
+        assertTrue(resolver.remove(player));
+        assertFalse(resolver.remove(player));
+
+        assertEquals(0, resolver.getCountWithoutAgency());
+        assertEquals(0, resolver.getMaxDefenderGoalsCount());
+        assertNull(resolver.getTheExpensiveGermanPlayerPosition());
+        assertTrue(resolver.getPlayersByPosition().isEmpty());
+        assertTrue(resolver.getTeams().isEmpty());
+        assertTrue(resolver.getTop5TeamsByGoalsCount().isEmpty());
+        assertNull(resolver.getAgencyWithMinPlayersCount());
+        assertEquals("", resolver.getTheRudestTeam());
+    }
+
+    @Test
+    void duplicatePlayers_RemoveFirstOccurrence() {
+        var a = new Player("A", "T1", Position.FORWARD, "Spain", "Ag", 10, 5, 1);
+        var b = new Player("B", "T2", Position.FORWARD, "Spain", "Ag", 10, 5, 1);
+        var players = new ArrayList<>(List.of(a, b, a));
+        var resolver = new IncrementalResolver(players);
+
+        players.remove(a);
+        resolver.remove(a);
+
+        assertSameAnswers(players, resolver);
+        assertEquals(List.of(b, a), resolver.getPlayers());
+    }
+}
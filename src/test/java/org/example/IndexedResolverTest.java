@@ -0,0 +1,38 @@
+package org.example;
+
+import org.example.model.Position;
+import org.example.resolver.IndexedResolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.example.TestPlayers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedResolverTest {
+    private final IndexedResolver resolver = new IndexedResolver(PLAYERS);
+
+    @Test
+    void getMostExpensivePlayer_FirstOfEqualCost() {
+        assertEquals(Optional.of(NEUER), resolver.getMostExpensivePlayer("Germany"));
+        assertEquals(Optional.of(PIQUE), resolver.getMostExpensivePlayer("Spain"));
+        assertEquals(Optional.empty(), resolver.getMostExpensivePlayer("Brazil"));
+    }
+
+    @Test
+    void getMaxGoalsCount_ByPosition() {
+        assertEquals(9, resolver.getMaxGoalsCount(Position.DEFENDER));
+        assertEquals(12, resolver.getMaxGoalsCount(Position.FORWARD));
+        assertEquals(0, resolver.getMaxGoalsCount(Position.MIDFIELD));
+    }
+
+    @Test
+    void lookups_ReturnBucketsInOriginalOrder() {
+        assertEquals(List.of(NEUER, MULLER), resolver.getPlayersOfTeam("Бавария"));
+        assertEquals(List.of(NEUER, RAMOS), resolver.getPlayersOfAgency("Агентство1"));
+        assertEquals(List.of(PIQUE, RAMOS), resolver.getPlayersOfNationality("Spain"));
+        assertTrue(resolver.getPlayersOfTeam("Зенит").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> resolver.getPlayersOfTeam("Бавария").add(PIQUE));
+    }
+}
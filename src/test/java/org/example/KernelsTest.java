@@ -0,0 +1,70 @@
+package org.example;
+
+import org.example.kernel.ColumnKernels;
+import org.example.kernel.Kernels;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KernelsTest {
+    // surefire запускает тесты с --add-modules jdk.incubator.vector
+    @Test
+    void vector_AvailableWithModule() {
+        assertTrue(Kernels.isVectorAvailable());
+        assertSame(Kernels.vector(), Kernels.best());
+    }
+
+    // Длины не кратны ширине вектора, чтобы проверить хвосты
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 63, 64, 1000, 4099})
+    void vector_SameAsScalar(int size) {
+        var random = new Random(size);
+        int[] keys = new int[size];
+        byte[] byteKeys = new byte[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(5) - 1;
+            byteKeys[i] = (byte) random.nextInt(4);
+            values[i] = random.nextInt(200) - 100;
+        }
+        ColumnKernels scalar = Kernels.scalar();
+        ColumnKernels vector = Kernels.vector();
+
+        assertEquals(scalar.countEither(keys, -1, 2), vector.countEither(keys, -1, 2));
+        for (byte key = 0; key < 5; key++) {
+            assertEquals(scalar.maxWhere(byteKeys, key, values), vector.maxWhere(byteKeys, key, values));
+        }
+        for (int key = -1; key < 5; key++) {
+            assertEquals(scalar.argMaxWhere(keys, key, values), vector.argMaxWhere(keys, key, values));
+        }
+    }
+
+    @Test
+    void argMaxWhere_FirstOfEqualMaximums() {
+        int[] keys = new int[100];
+        int[] values = new int[100];
+        values[10] = 5;
+        values[70] = 5;
+        Arrays.fill(keys, 1);
+        keys[10] = 0;
+
+        assertEquals(70, Kernels.vector().argMaxWhere(keys, 1, values));
+        assertEquals(70, Kernels.scalar().argMaxWhere(keys, 1, values));
+        assertEquals(10, Kernels.vector().argMaxWhere(keys, 0, values));
+        assertEquals(-1, Kernels.vector().argMaxWhere(keys, 2, values));
+    }
+
+    @Test
+    void maxWhere_NoMatches() {
+        byte[] keys = new byte[50];
+        int[] values = new int[50];
+
+        assertEquals(Long.MIN_VALUE, Kernels.vector().maxWhere(keys, (byte) 1, values));
+        assertEquals(0, Kernels.vector().maxWhere(keys, (byte) 0, values));
+    }
+}
@@ -0,0 +1,143 @@
+package org.example;
+
+import org.example.metrics.JmxMetrics;
+import org.example.metrics.LatencyHistogram;
+import org.example.metrics.Metrics;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.parser.CsvParser;
+import org.example.resolver.CachingResolver;
+import org.example.resolver.IndexedResolver;
+import org.example.resolver.InstrumentedResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+    private static final String HEADER = "Name;Team;City;Position;Nationality;Agency;Transfer cost;Participations;Goals;Assists;Yellow cards;Red cards";
+
+    private MBeanServer server;
+    private JmxMetrics metrics;
+    private Metrics previous;
+
+    @BeforeEach
+    void setUp() {
+        server = MBeanServerFactory.newMBeanServer();
+        metrics = new JmxMetrics(server, "test");
+        previous = Metrics.global();
+        Metrics.setGlobal(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setGlobal(previous);
+    }
+
+    @Test
+    void histogram_PercentilesWithinBucketError() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(500_500.0, histogram.mean());
+        assertEquals(500_000, histogram.percentile(50), 500_000 * 0.125);
+        assertEquals(990_000, histogram.percentile(99), 990_000 * 0.125);
+        assertEquals(1_000_000, histogram.percentile(100));
+        assertEquals(0, new LatencyHistogram().percentile(50));
+    }
+
+    @Test
+    void parser_RecordsRowsBytesAndMalformedRows(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n"
+                + "Иванов Иван;Бульдоги;Москва;FORWARD;Russia;Агентство1;1000;10;5;2;1;0\n"
+                + "Петров Пётр;Бульдоги;Москва;DEFENDER;Russia;;2000;10;1;2;1;1\n");
+
+        assertEquals(2, CsvParser.parseCsvToList(file.toString()).size());
+        assertEquals(2, CsvParser.parseCsvParallel(file.toString(), 2).size());
+
+        var parser = metrics.parser();
+        assertEquals(2, parser.getParses());
+        assertEquals(4, parser.getRows());
+        assertEquals(2 * Files.size(file), parser.getBytes());
+        assertTrue(parser.getRowsPerSecond() > 0);
+
+        Files.writeString(file, HEADER + "\nИванов Иван;Бульдоги;Москва;FORWARD;Russia;;много;10;5;2;1;0\n");
+        assertThrows(NumberFormatException.class, () -> CsvParser.parseCsvToList(file.toString()));
+        assertEquals(1, parser.getMalformedRows());
+        assertEquals(4L, server.getAttribute(new ObjectName("test:type=Parser"), "Rows"));
+    }
+
+    @Test
+    void instrumentedResolver_RecordsEveryQuery() throws Exception {
+        var players = List.of(
+                new Player("Иванов Иван", "Бульдоги", Position.FORWARD, "Russia", "", 1000, 10, 3),
+                new Player("Петров Пётр", "Бульдоги", Position.DEFENDER, "Germany", "Агентство1", 2000, 4, 1));
+        var resolver = new InstrumentedResolver(new Streams(players), metrics);
+
+        assertEquals(1, resolver.getCountWithoutAgency());
+        assertEquals(1, resolver.getCountWithoutAgency());
+        assertEquals("Защитник", resolver.getTheExpensiveGermanPlayerPosition());
+        resolver.computeAll();
+
+        var stats = metrics.query("getCountWithoutAgency");
+        assertEquals(2, stats.getCount());
+        assertEquals(4, stats.getRowsScanned());
+        assertEquals(2.0, stats.getRowsScannedPerQuery());
+        assertTrue(stats.getMaxMicros() >= stats.getP50Micros());
+        assertEquals(1, metrics.query("computeAll").getCount());
+        assertEquals(2L, server.getAttribute(
+                new ObjectName("test:type=Query,name=" + ObjectName.quote("getCountWithoutAgency")), "Count"));
+    }
+
+    @Test
+    void instrumentedResolver_CountsRowsActuallyRead() {
+        var players = List.of(
+                new Player("Иванов Иван", "Бульдоги", Position.FORWARD, "Russia", "", 1000, 10, 3),
+                new Player("Петров Пётр", "Бульдоги", Position.DEFENDER, "Germany", "Агентство1", 2000, 4, 1),
+                new Player("Сидоров Сидор", "Ястребы", Position.FORWARD, "Russia", "Агентство1", 3000, 7, 0));
+        var indexed = new InstrumentedResolver(new IndexedResolver(players), metrics);
+        var cached = new InstrumentedResolver(new CachingResolver(new Streams(players)), metrics);
+
+        // Индекс читает только корзину защитников, агрегаты по агентствам - ни одной строки
+        assertEquals(4, indexed.getMaxDefenderGoalsCount());
+        assertEquals("Агентство1", indexed.getAgencyWithMinPlayersCount());
+        // Второй запрос отвечает из кеша
+        cached.getTeams();
+        cached.getTeams();
+
+        assertEquals(1, metrics.query("getMaxDefenderGoalsCount").getRowsScanned());
+        assertEquals(0, metrics.query("getAgencyWithMinPlayersCount").getRowsScanned());
+        assertEquals(3, metrics.query("getTeams").getRowsScanned());
+        assertEquals(1.5, metrics.query("getTeams").getRowsScannedPerQuery());
+    }
+
+    @Test
+    void instrumentedResolver_ReadsCsvSourceOncePerQuery(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        Files.writeString(file, HEADER + "\n"
+                + "Иванов Иван;Бульдоги;Москва;FORWARD;Russia;Агентство1;1000;10;5;2;1;0\n"
+                + "Петров Пётр;Бульдоги;Москва;DEFENDER;Russia;;2000;10;1;2;1;1\n");
+        var resolver = new InstrumentedResolver(Streams.fromCsv(file.toString()), metrics);
+
+        assertEquals(1, resolver.getCountWithoutAgency());
+
+        assertEquals(2, metrics.query("getCountWithoutAgency").getRowsScanned());
+        assertEquals(1, metrics.parser().getParses());
+        assertEquals(2, metrics.parser().getRows());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example;
+
+import org.example.table.ObjectIndex;
+import org.example.table.ObjectIntMap;
+import org.example.table.ObjectLongMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectIndexTest {
+    @Test
+    void add_NumbersKeysInFirstSeenOrder() {
+        var index = new ObjectIndex<String>();
+
+        assertEquals(0, index.add("Бавария"));
+        assertEquals(1, index.add(null));
+        assertEquals(2, index.add("Реал"));
+        assertEquals(0, index.add("Бавария"));
+        assertEquals(1, index.add(null));
+
+        assertEquals(3, index.size());
+        assertEquals(1, index.indexOf(null));
+        assertEquals(ObjectIndex.ABSENT, index.indexOf("Зенит"));
+        assertEquals(Arrays.asList("Бавария", null, "Реал"), index.keys());
+    }
+
+    @Test
+    void addTo_SameTotalsAsHashMapAfterManyResizes() {
+        var random = new Random(7);
+        var ints = new ObjectIntMap<String>();
+        var longs = new ObjectLongMap<String>();
+        Map<String, Long> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            String key = "team" + random.nextInt(5_000);
+            int delta = random.nextInt(10);
+            ints.addTo(key, delta);
+            longs.addTo(key, delta);
+            expected.merge(key, (long) delta, Long::sum);
+        }
+
+        List<String> keys = new ArrayList<>();
+        longs.forEach((key, value) -> {
+            keys.add(key);
+            assertEquals(expected.get(key), value);
+            assertEquals(value, ints.getOrDefault(key, -1));
+        });
+        assertEquals(List.copyOf(expected.keySet()), keys);
+        assertEquals(-1, ints.getOrDefault("absent", -1));
+        assertFalse(longs.containsKey("absent"));
+    }
+
+    @Test
+    void addAll_AppendsNewKeysAfterExisting() {
+        var left = new ObjectIntMap<String>();
+        left.addTo("a", 1);
+        left.addTo("b", 2);
+        var right = new ObjectIntMap<String>();
+        right.addTo("c", 3);
+        right.addTo("a", 4);
+
+        left.addAll(right);
+
+        assertEquals(3, left.size());
+        assertEquals("c", left.keyAt(2));
+        assertEquals(5, left.valueAt(0));
+        assertEquals(3, left.valueAt(2));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example;
+
+import org.example.generator.RosterGenerator;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.table.OffHeapDictionary;
+import org.example.table.OffHeapPlayerStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapPlayerStoreTest {
+    @Test
+    void toPlayers_RoundTripsAcrossPages() {
+        // Больше одной страницы записей
+        List<Player> players = RosterGenerator.builder().seed(3).build().players(70_000).collect(Collectors.toList());
+
+        var store = OffHeapPlayerStore.of(players);
+
+        assertEquals(players.size(), store.size());
+        assertEquals(players, store.toPlayers());
+        // Хвосты последних страниц не заняты
+        assertTrue(store.usedOffHeapBytes() > 0);
+        assertTrue(store.usedOffHeapBytes() < store.offHeapBytes());
+    }
+
+    @Test
+    void nullsAndDictionaries() {
+        var players = List.of(
+                new Player(null, "Бавария", null, null, "", 1, 2, 3),
+                new Player("Жерар Пике", "Барселона", Position.DEFENDER, "Spain", null, 7000, 4, 2),
+                new Player("Томас Мюллер", "Бавария", Position.FORWARD, "Germany", "", 5000, 12, 0));
+
+        var store = OffHeapPlayerStore.of(players);
+
+        assertEquals(players, store.toPlayers());
+        assertEquals(List.of("Бавария", "Барселона"), store.teamDictionary().values());
+        assertEquals(1, store.nationalityDictionary().find("Germany"));
+        assertEquals(OffHeapDictionary.NULL_ID, store.nationalityDictionary().find("Brazil"));
+        assertEquals(OffHeapDictionary.NULL_ID, store.agencyId(1));
+        assertEquals(OffHeapPlayerStore.NULL_POSITION, store.positionOrdinal(0));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example;
+
+import org.example.generator.RosterGenerator;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.parser.CsvParser;
+import org.example.table.PlayerSnapshot;
+import org.example.table.PlayerTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndRead_SampleFile_RoundTrips() throws IOException {
+        List<Player> players = CsvParser.parseCsvToList("fakePlayers.csv");
+        Path snapshot = tempDir.resolve("players.snapshot");
+
+        PlayerSnapshot.write(players, snapshot);
+
+        assertEquals(players, PlayerSnapshot.readPlayers(snapshot));
+    }
+
+    @Test
+    void writeAndRead_NullsAndEmptyTable_RoundTrip() throws IOException {
+        List<Player> players = List.of(
+                new Player(null, "Бульдоги", null, null, null, -1, 0, Integer.MAX_VALUE),
+                new Player("Иванов Иван", "Бульдоги", Position.DEFENDER, "Russia", "", 10, 2, 3)
+        );
+        Path snapshot = tempDir.resolve("nulls.snapshot");
+        Path empty = tempDir.resolve("empty.snapshot");
+
+        PlayerSnapshot.write(players, snapshot);
+        PlayerSnapshot.write(List.of(), empty);
+
+        assertEquals(players, PlayerSnapshot.readPlayers(snapshot));
+        assertEquals(0, PlayerSnapshot.read(empty).size());
+    }
+
+    @Test
+    void read_KeepsDictionaryEncoding() throws IOException {
+        List<Player> players = RosterGenerator.builder().teams(7).build().players(10_000).toList();
+        Path snapshot = tempDir.resolve("generated.snapshot");
+
+        PlayerSnapshot.write(players, snapshot);
+        PlayerTable table = PlayerSnapshot.read(snapshot);
+
+        assertEquals(10_000, table.size());
+        assertEquals(7, table.teamDictionary().size());
+        assertEquals(players, table.toPlayers());
+    }
+
+    @Test
+    void read_NotASnapshot_ThrowsIOException() throws IOException {
+        Path file = tempDir.resolve("garbage.snapshot");
+        Files.writeString(file, "Name;Team;City");
+        Path truncated = tempDir.resolve("truncated.snapshot");
+        PlayerSnapshot.write(CsvParser.parseCsvToList("fakePlayers.csv"), truncated);
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(truncated), 100));
+
+        assertThrows(IOException.class, () -> PlayerSnapshot.read(file));
+        assertThrows(IOException.class, () -> PlayerSnapshot.read(truncated));
+    }
+
+    @Test
+    void read_CorruptSnapshot_ThrowsOnlyIOException() throws IOException {
+        Path csv = tempDir.resolve("small.csv");
+        Path snapshot = tempDir.resolve("small.csv.snapshot");
+        RosterGenerator.builder().seed(3).teams(2).build().write(csv, 5);
+        List<Player> players = CsvParser.parseCsvToList(csv.toString());
+        PlayerSnapshot.write(players, snapshot);
+        byte[] original = Files.readAllBytes(snapshot);
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(0));
+
+        for (int offset = 0; offset < original.length; offset++) {
+            for (byte value : new byte[]{(byte) 0xFF, 0x7F}) {
+                byte[] corrupt = original.clone();
+                corrupt[offset] = value;
+                Files.write(snapshot, corrupt);
+                try {
+                    PlayerSnapshot.read(snapshot);
+                } catch (IOException e) {
+                    // Снимок, который не читается, пересоздаётся из CSV
+                    assertEquals(players, PlayerSnapshot.loadOrParse(csv, snapshot).toPlayers());
+                }
+            }
+        }
+    }
+
+    @Test
+    void loadOrParse_ReusesFreshSnapshotAndRebuildsStaleOne() throws IOException {
+        Path csv = tempDir.resolve("players.csv");
+        Path snapshot = tempDir.resolve("players.csv.snapshot");
+        RosterGenerator.builder().seed(1).build().write(csv, 100);
+
+        PlayerTable first = PlayerSnapshot.loadOrParse(csv, snapshot);
+        assertTrue(Files.exists(snapshot));
+        assertEquals(CsvParser.parseCsvToList(csv.toString()), first.toPlayers());
+
+        RosterGenerator.builder().seed(2).build().write(csv, 50);
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(snapshot).toMillis() + 1000));
+
+        PlayerTable second = PlayerSnapshot.loadOrParse(csv, snapshot);
+        assertEquals(CsvParser.parseCsvToList(csv.toString()), second.toPlayers());
+        assertEquals(second.toPlayers(), PlayerSnapshot.readPlayers(snapshot));
+    }
+}
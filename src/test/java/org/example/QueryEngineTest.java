@@ -0,0 +1,98 @@
+package org.example;
+
+import org.example.model.Position;
+import org.example.query.Aggregate;
+import org.example.query.Dimension;
+import org.example.query.Filter;
+import org.example.query.Measure;
+import org.example.query.Query;
+import org.example.query.QueryEngine;
+import org.example.query.QueryPlan;
+import org.example.query.QueryResult;
+import org.example.query.ResultRow;
+import org.example.table.IndexedPlayerStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.TestPlayers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryEngineTest {
+    private final QueryEngine engine = new QueryEngine(new IndexedPlayerStore(PLAYERS));
+
+    @Test
+    void plan_PicksSmallestIndexBucket() {
+        Filter spain = Filter.eq(Dimension.NATIONALITY, "Spain");
+        Filter reala = Filter.eq(Dimension.TEAM, "Реал");
+        QueryPlan plan = engine.plan(Query.builder().where(spain).where(reala).build());
+
+        assertTrue(plan.usesIndex());
+        assertSame(reala, plan.indexLookup());
+        assertEquals(List.of(spain), plan.residualFilters());
+        assertEquals(1, plan.estimatedRows());
+        assertFalse(plan.explain().isEmpty());
+    }
+
+    @Test
+    void plan_WithoutIndexScansEverything() {
+        QueryPlan indexed = engine.plan(Query.builder().where(Filter.in(Dimension.TEAM, "Реал")).build());
+        QueryPlan scan = new QueryEngine(PLAYERS).plan(Query.builder().where(Filter.eq(Dimension.TEAM, "Реал")).build());
+
+        assertFalse(indexed.usesIndex());
+        assertFalse(scan.usesIndex());
+        assertEquals(PLAYERS.size(), scan.estimatedRows());
+    }
+
+    @Test
+    void execute_RowsOrderedByMeasureWithLimit() {
+        QueryResult result = engine.execute(Query.builder()
+                .where(Filter.not(Filter.eq(Dimension.POSITION, Position.DEFENDER)))
+                .orderBy(Measure.TRANSFER_COST, true)
+                .limit(1)
+                .build());
+
+        assertEquals(List.of(NEUER), result.players());
+        assertTrue(result.rows().isEmpty());
+    }
+
+    @Test
+    void execute_GroupsWithSeveralAggregates() {
+        QueryResult result = engine.execute(Query.builder()
+                .where(Filter.where(player -> player.goals() > 0))
+                .groupBy(Dimension.NATIONALITY)
+                .aggregate(Aggregate.count())
+                .aggregate(Aggregate.sum(Measure.GOALS))
+                .aggregate(Aggregate.avg(Measure.RED_CARDS))
+                .aggregate(Aggregate.names())
+                .orderByAggregate(1, false)
+                .build());
+
+        assertEquals(List.of(
+                new ResultRow("Germany", List.of(1L, 12L, 0.0, List.of(MULLER.name()))),
+                new ResultRow("Spain", List.of(2L, 13L, 3.5, List.of(PIQUE.name(), RAMOS.name())))
+        ), result.rows());
+    }
+
+    @Test
+    void execute_AggregateWithoutGroupOnEmptyInput() {
+        QueryResult result = engine.execute(Query.builder()
+                .where(Filter.eq(Dimension.TEAM, "Зенит"))
+                .aggregate(Aggregate.count())
+                .aggregate(Aggregate.max(Measure.GOALS))
+                .build());
+
+        assertEquals(1, result.rows().size());
+        assertEquals(0L, result.rows().get(0).longValue(0));
+        assertNull(result.rows().get(0).value(1));
+    }
+
+    @Test
+    void build_RejectsInconsistentOrdering() {
+        assertThrows(IllegalArgumentException.class, () -> Query.builder()
+                .groupBy(Dimension.TEAM).orderBy(Measure.GOALS, true).build());
+        assertThrows(IllegalArgumentException.class, () -> Query.builder()
+                .aggregate(Aggregate.count()).orderByAggregate(1, true).build());
+        assertThrows(IllegalArgumentException.class, () -> Query.builder().limit(-1));
+    }
+}
@@ -0,0 +1,161 @@
+package org.example;
+
+import org.example.kernel.Kernels;
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.parser.CsvParser;
+import org.example.resolver.CachingResolver;
+import org.example.resolver.ColumnarResolver;
+import org.example.resolver.IResolver;
+import org.example.resolver.IncrementalResolver;
+import org.example.resolver.IndexedResolver;
+import org.example.resolver.OffHeapResolver;
+import org.example.resolver.ParallelStreams;
+import org.example.resolver.QueryResolver;
+import org.example.resolver.ResolverReport;
+import org.example.resolver.ShardedResolver;
+import org.example.resolver.SnapshotResolver;
+import org.example.resolver.Streams;
+import org.example.table.PlayerTable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Все реализации IResolver должны отвечать так же, как эталонная Streams
+class ResolverEquivalenceTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static Map<String, Function<List<Player>, IResolver>> resolvers() {
+        return Map.ofEntries(
+                Map.entry("columnar", ColumnarResolver::new),
+                Map.entry("columnar scalar", players -> new ColumnarResolver(PlayerTable.of(players), Kernels.scalar())),
+                Map.entry("parallel", ParallelStreams::new),
+                Map.entry("parallel pool", players -> new ParallelStreams(players, POOL)),
+                Map.entry("incremental", IncrementalResolver::new),
+                Map.entry("cached", players -> new CachingResolver(new Streams(players))),
+                Map.entry("indexed", IndexedResolver::new),
+                Map.entry("query", QueryResolver::new),
+                Map.entry("off-heap", OffHeapResolver::new),
+                Map.entry("snapshot", players -> new SnapshotResolver(players, ColumnarResolver::new)),
+                Map.entry("sharded by team", players -> new ShardedResolver(players, 4)),
+                Map.entry("sharded by hash", players -> new ShardedResolver(players, 3,
+                        ShardedResolver.Partitioner.BY_HASH, POOL))
+        );
+    }
+
+    private static Map<String, List<Player>> datasets() {
+        try {
+            return Map.of(
+                    "sample", CsvParser.parseCsvToList("fakePlayers.csv"),
+                    "empty", List.of(),
+                    "generated", generate(20_000),
+                    "wide ties", wideTies(100),
+                    "ties", List.of(
+                            new Player("A", "T1", Position.DEFENDER, "Germany", "Ag1", 500, 3, 1),
+                            new Player("B", "T2", Position.FORWARD, "Germany", "Ag2", 500, 3, 1),
+                            new Player("C", "T3", Position.MIDFIELD, "Spain", "", 100, 3, 0),
+                            new Player("D", "T1", Position.GOALKEEPER, "Spain", null, 100, 0, 1),
+                            new Player("E", "T4", Position.DEFENDER, "Spain", "Ag3", 100, 1, 2),
+                            new Player("F", "T5", Position.DEFENDER, "Brazil", "Ag1", 100, 0, 2),
+                            new Player("G", "T6", Position.FORWARD, "Brazil", "Ag4", 100, 0, 0)
+                    ),
+                    "null team", List.of(
+                            new Player("A", null, Position.DEFENDER, "Germany", "Ag1", 100, 2, 2),
+                            new Player("B", "T", Position.FORWARD, "Spain", "Ag2", 200, 3, 0),
+                            new Player("C", null, Position.MIDFIELD, "Spain", "", 50, 0, 1)
+                    ),
+                    "no germans", List.of(
+                            new Player("A", "T1", Position.FORWARD, "Spain", "", 500, 3, 1),
+                            new Player("B", "T1", Position.FORWARD, "Spain", null, 500, 3, 1)
+                    )
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Мало команд и агентств на много игроков - много равенств в агрегатах
+    private static List<Player> generate(int size) {
+        var random = new Random(42);
+        var positions = Position.values();
+        var nationalities = List.of("Germany", "Spain", "Brazil");
+        var players = new ArrayList<Player>(size);
+        for (int i = 0; i < size; i++) {
+            int agency = random.nextInt(12);
+            players.add(new Player("Игрок" + i, "Команда" + random.nextInt(40),
+                    positions[random.nextInt(positions.length)], nationalities.get(random.nextInt(nationalities.size())),
+                    agency == 0 ? "" : "Агентство" + agency, random.nextInt(1000), random.nextInt(10), random.nextInt(3)));
+        }
+        return players;
+    }
+
+    // Каждая команда и агентство по одному игроку: при равенстве всех значений победителя
+    // определяет порядок обхода HashMap с десятками ключей
+    private static List<Player> wideTies(int size) {
+        var players = new ArrayList<Player>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(new Player("Игрок" + i, "Команда" + i, Position.FORWARD, "Spain", "Агентство" + i, 100, 1, 1));
+        }
+        return players;
+    }
+
+    private static Stream<Arguments> provideResolvers() {
+        var arguments = new ArrayList<Arguments>();
+        var datasets = datasets();
+        resolvers().forEach((resolverName, factory) -> datasets.forEach((datasetName, players) ->
+                arguments.add(Arguments.of(resolverName, datasetName, factory, players))));
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0} on {1}")
+    @MethodSource("provideResolvers")
+    void resolver_SameAnswersAsStreams(String resolverName, String datasetName,
+                                       Function<List<Player>, IResolver> factory, List<Player> players) {
+        IResolver expected = new Streams(players);
+        IResolver actual = factory.apply(players);
+
+        assertEquals(expected.getCountWithoutAgency(), actual.getCountWithoutAgency());
+        assertEquals(expected.getMaxDefenderGoalsCount(), actual.getMaxDefenderGoalsCount());
+        assertEquals(expected.getTheExpensiveGermanPlayerPosition(), actual.getTheExpensiveGermanPlayerPosition());
+        assertEquals(expected.getPlayersByPosition(), actual.getPlayersByPosition());
+        assertEquals(expected.getTeams(), actual.getTeams());
+        assertEquals(new ArrayList<>(expected.getTop5TeamsByGoalsCount().entrySet()),
+                new ArrayList<>(actual.getTop5TeamsByGoalsCount().entrySet()));
+        assertEquals(expected.getAgencyWithMinPlayersCount(), actual.getAgencyWithMinPlayersCount());
+        assertEquals(expected.getTheRudestTeam(), actual.getTheRudestTeam());
+        assertEquals(expected.getPlayers(), actual.getPlayers());
+    }
+
+    @ParameterizedTest(name = "{0} on {1}")
+    @MethodSource("provideResolvers")
+    void computeAll_SameAnswersAsSeparateQueries(String resolverName, String datasetName,
+                                                 Function<List<Player>, IResolver> factory, List<Player> players) {
+        IResolver expected = new Streams(players);
+        for (IResolver resolver : List.of(new Streams(players), factory.apply(players))) {
+            ResolverReport report = resolver.computeAll();
+
+            assertEquals(expected.getCountWithoutAgency(), report.countWithoutAgency());
+            assertEquals(expected.getMaxDefenderGoalsCount(), report.maxDefenderGoalsCount());
+            assertEquals(expected.getTheExpensiveGermanPlayerPosition(), report.theExpensiveGermanPlayerPosition());
+            assertEquals(expected.getPlayersByPosition(), report.playersByPosition());
+            assertEquals(expected.getTeams(), report.teams());
+            assertEquals(new ArrayList<>(expected.getTop5TeamsByGoalsCount().entrySet()),
+                    new ArrayList<>(report.top5TeamsByGoalsCount().entrySet()));
+            assertEquals(expected.getAgencyWithMinPlayersCount(), report.agencyWithMinPlayersCount());
+            assertEquals(expected.getTheRudestTeam(), report.theRudestTeam());
+            assertThrows(UnsupportedOperationException.class, () -> report.teams().add("T"));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example;
+
+import org.example.generator.RosterGenerator;
+import org.example.model.Player;
+import org.example.parser.CsvParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_ParsesBackToSamePlayers() throws IOException {
+        var generator = RosterGenerator.builder().seed(1).build();
+        Path file = tempDir.resolve("roster.csv");
+
+        generator.write(file, 5_000);
+
+        assertEquals(RosterGenerator.HEADER, Files.readAllLines(file).get(0));
+        assertEquals(generator.players(5_000).toList(), CsvParser.parseCsvToList(file.toString()));
+    }
+
+    @Test
+    void write_SameSeed_SameBytes() throws IOException {
+        var first = new ByteArrayOutputStream();
+        var second = new ByteArrayOutputStream();
+        var other = new ByteArrayOutputStream();
+
+        RosterGenerator.builder().seed(7).build().write(first, 1_000);
+        RosterGenerator.builder().seed(7).build().write(second, 1_000);
+        RosterGenerator.builder().seed(8).build().write(other, 1_000);
+
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        assertFalse(Arrays.equals(first.toByteArray(), other.toByteArray()));
+    }
+
+    @Test
+    void players_RespectsCardinalityAndEmptyAgencyRatio() {
+        List<Player> players = RosterGenerator.builder()
+                .teams(3)
+                .agencies(4)
+                .nationalities(20)
+                .emptyAgencyRatio(0.25)
+                .build()
+                .players(20_000)
+                .toList();
+
+        assertEquals(3, players.stream().map(Player::team).distinct().count());
+        assertEquals(4, players.stream().map(Player::agency).filter(agency -> !agency.isEmpty()).distinct().count());
+        assertEquals(20, players.stream().map(Player::nationality).distinct().count());
+        double emptyShare = players.stream().filter(player -> player.agency().isEmpty()).count() / 20_000.0;
+        assertEquals(0.25, emptyShare, 0.02);
+    }
+
+    @Test
+    void builder_InvalidSettings_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> RosterGenerator.builder().teams(0));
+        assertThrows(IllegalArgumentException.class, () -> RosterGenerator.builder().emptyAgencyRatio(1.5));
+    }
+}
@@ -0,0 +1,113 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.resolver.LocalShard;
+import org.example.resolver.Shard;
+import org.example.resolver.ShardedResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedResolverTest {
+    private static final List<Player> PLAYERS = List.of(
+            new Player("Мануэль Нойер", "Бавария", Position.GOALKEEPER, "Germany", "Агентство1", 5000, 0, 1),
+            new Player("Томас Мюллер", "Бавария", Position.FORWARD, "Germany", "Агентство2", 5000, 12, 0),
+            new Player("Жерар Пике", "Барселона", Position.DEFENDER, "Spain", "", 7000, 4, 2),
+            new Player("Серхио Рамос", "Реал", Position.DEFENDER, "Spain", "Агентство1", 6000, 9, 5),
+            new Player("Тони Кроос", "Реал", Position.MIDFIELD, "Germany", "Агентство2", 4000, 3, 1));
+
+    @Test
+    void byTeam_EachTeamInOneShard() {
+        var resolver = new ShardedResolver(PLAYERS, 3);
+
+        var seen = new HashSet<String>();
+        int total = 0;
+        for (LocalShard shard : resolver.getShards()) {
+            var teams = shard.getResolver().getTeams();
+            for (String team : teams) {
+                assertTrue(seen.add(team), team);
+            }
+            total += shard.size();
+        }
+        assertEquals(PLAYERS.size(), total);
+        assertEquals(PLAYERS, resolver.getPlayers());
+    }
+
+    // Первого из равных немца (Нойер) выбирают по номеру строки, даже если его шард сливается последним
+    @Test
+    void gather_MergeOrderDoesNotChangeAnswers() {
+        var resolver = new ShardedResolver(PLAYERS, 4, ShardedResolver.Partitioner.BY_HASH, Runnable::run);
+        var reversed = new ArrayList<Shard>(resolver.getShards());
+        Collections.reverse(reversed);
+
+        var expected = new Streams(PLAYERS).computeAll();
+        assertEquals(expected, resolver.computeAll());
+        assertEquals(expected.playersByPosition(), new ShardedResolver(PLAYERS, 4).getPlayersByPosition());
+        assertEquals("Вратарь", resolver.getTheExpensiveGermanPlayerPosition());
+        assertEquals(expected, ShardedResolver.gather(reversed, Runnable::run).report());
+    }
+
+    // Заглушка удалённого шарда: каждый вызов aggregate() - отдельный запрос
+    @Test
+    void gather_CallsEveryShardOnce() {
+        var calls = new AtomicInteger();
+        var local = new ShardedResolver(PLAYERS, 2).getShards();
+        List<Shard> remote = new ArrayList<>();
+        for (LocalShard shard : local) {
+            remote.add(() -> {
+                calls.incrementAndGet();
+                return shard.aggregate();
+            });
+        }
+
+        ShardedResolver.gather(remote, Runnable::run);
+
+        assertEquals(2, calls.get());
+    }
+
+    // Шарды неизменяемы: рассылка и слияние выполняются один раз до следующего setPlayers
+    @Test
+    void queries_ReuseMergedPartials() {
+        var tasks = new AtomicInteger();
+        Executor counting = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+        var resolver = new ShardedResolver(PLAYERS, 3, ShardedResolver.Partitioner.BY_HASH, counting);
+
+        resolver.getCountWithoutAgency();
+        resolver.getTop5TeamsByGoalsCount();
+        resolver.computeAll();
+        assertEquals(3, tasks.get());
+
+        resolver.setPlayers(PLAYERS);
+        resolver.getTheRudestTeam();
+        assertEquals(6, tasks.get());
+    }
+
+    @Test
+    void setPlayers_Repartitions() {
+        var resolver = new ShardedResolver(PLAYERS, 2);
+
+        resolver.setPlayers(PLAYERS.subList(0, 2));
+
+        assertEquals(Map.of("Бавария", 12), resolver.getTop5TeamsByGoalsCount());
+        assertEquals(0, resolver.getMaxDefenderGoalsCount());
+        assertEquals(2, resolver.getShards().stream().mapToInt(LocalShard::size).sum());
+    }
+
+    @Test
+    void nonPositiveShardCount_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedResolver(PLAYERS, 0));
+    }
+}
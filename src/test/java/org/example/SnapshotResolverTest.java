@@ -0,0 +1,114 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+import org.example.resolver.ColumnarResolver;
+import org.example.resolver.ResolverReport;
+import org.example.resolver.SnapshotResolver;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotResolverTest {
+    private static final List<Player> OLD = List.of(
+            new Player("Мануэль Нойер", "Бавария", Position.GOALKEEPER, "Germany", "Агентство1", 5000, 0, 1),
+            new Player("Серхио Рамос", "Реал", Position.DEFENDER, "Spain", "", 6000, 9, 5));
+    private static final List<Player> NEW = List.of(
+            new Player("Томас Мюллер", "Бавария", Position.FORWARD, "Germany", "Агентство2", 8000, 12, 0),
+            new Player("Жерар Пике", "Барселона", Position.DEFENDER, "Spain", "Агентство2", 7000, 4, 2),
+            new Player("Хави", "Барселона", Position.MIDFIELD, "Spain", "", 3000, 2, 3));
+
+    @Test
+    void setPlayers_OldSnapshotStillAnswersOldData() {
+        var resolver = new SnapshotResolver(OLD);
+        var before = resolver.snapshot();
+
+        resolver.setPlayers(NEW);
+
+        assertEquals(0, before.version());
+        assertEquals(1, resolver.getVersion());
+        assertEquals(9, before.getMaxDefenderGoalsCount());
+        assertEquals(4, resolver.getMaxDefenderGoalsCount());
+        assertEquals(OLD, before.getPlayers());
+    }
+
+    @Test
+    void snapshot_CopiesInputAndIsUnmodifiable() {
+        var players = new ArrayList<>(OLD);
+        var resolver = new SnapshotResolver(players);
+        players.clear();
+
+        assertEquals(OLD, resolver.getPlayers());
+        assertThrows(UnsupportedOperationException.class, () -> resolver.getPlayers().clear());
+    }
+
+    @Test
+    void update_AppliesChangeToLatestSnapshot() throws InterruptedException {
+        var resolver = new SnapshotResolver(List.of(), ColumnarResolver::new);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            var thread = new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    resolver.update(players -> {
+                        var next = new ArrayList<>(players);
+                        next.add(OLD.get(0));
+                        return next;
+                    });
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(200, resolver.snapshot().size());
+        assertEquals(200, resolver.getVersion());
+    }
+
+    // Читатели во время постоянной перезагрузки видят ровно один из двух наборов целиком
+    @Test
+    void concurrentReload_ReadersSeeConsistentSnapshots() throws Exception {
+        var resolver = new SnapshotResolver(OLD);
+        ResolverReport oldReport = new Streams(OLD).computeAll();
+        ResolverReport newReport = new Streams(NEW).computeAll();
+        var running = new AtomicBoolean(true);
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        for (int r = 0; r < 4; r++) {
+            readers.execute(() -> {
+                while (running.get()) {
+                    try {
+                        var report = resolver.computeAll();
+                        if (!report.equals(oldReport) && !report.equals(newReport)) {
+                            errors.add(new AssertionError("Torn report " + report));
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }
+            });
+        }
+
+        for (int i = 0; i < 500; i++) {
+            resolver.reload(() -> NEW, Runnable::run).join();
+            resolver.setPlayers(OLD);
+        }
+        running.set(false);
+        readers.shutdown();
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue(errors.isEmpty(), () -> errors.peek().toString());
+        assertEquals(1000, resolver.getVersion());
+    }
+}
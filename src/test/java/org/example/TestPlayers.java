@@ -0,0 +1,19 @@
+package org.example;
+
+import org.example.model.Player;
+import org.example.model.Position;
+
+import java.util.List;
+
+// Общий набор из четырёх игроков для тестов индексов и запросов: равные стоимости у немцев,
+// пустое агентство у Пике, два защитника
+final class TestPlayers {
+    static final Player NEUER = new Player("Мануэль Нойер", "Бавария", Position.GOALKEEPER, "Germany", "Агентство1", 5000, 0, 1);
+    static final Player MULLER = new Player("Томас Мюллер", "Бавария", Position.FORWARD, "Germany", "Агентство2", 5000, 12, 0);
+    static final Player PIQUE = new Player("Жерар Пике", "Барселона", Position.DEFENDER, "Spain", "", 7000, 4, 2);
+    static final Player RAMOS = new Player("Серхио Рамос", "Реал", Position.DEFENDER, "Spain", "Агентство1", 6000, 9, 5);
+    static final List<Player> PLAYERS = List.of(NEUER, MULLER, PIQUE, RAMOS);
+
+    private TestPlayers() {
+    }
+}
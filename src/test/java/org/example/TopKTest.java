@@ -0,0 +1,61 @@
+package org.example;
+
+import org.example.query.TopK;
+import org.example.resolver.Streams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.example.TestPlayers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+    // Пары (значение, порядковый номер): порядок только по значению, номер проверяет устойчивость
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5, 17, 1000, 5000})
+    void select_SameAsStableSortAndLimit(int k) {
+        var random = new Random(k);
+        var items = new ArrayList<int[]>();
+        for (int i = 0; i < 2000; i++) {
+            items.add(new int[]{random.nextInt(50), i});
+        }
+        Comparator<int[]> order = Comparator.<int[]>comparingInt(item -> item[0]).reversed();
+
+        var expected = items.stream().sorted(order).limit(k).collect(Collectors.toList());
+
+        assertEquals(expected, TopK.select(items, k, order));
+        assertEquals(expected, items.parallelStream().collect(TopK.collector(k, order)));
+    }
+
+    @Test
+    void constructor_RejectsNegativeK() {
+        assertThrows(IllegalArgumentException.class, () -> new TopK<Integer>(-1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void streams_TopKQueries() {
+        var streams = new Streams(PLAYERS);
+
+        assertEquals(List.of(PIQUE, RAMOS, NEUER), streams.getTopPlayersByTransferCost(3));
+
+        Map<String, Integer> goals = new LinkedHashMap<>();
+        goals.put("Бавария", 12);
+        goals.put("Реал", 9);
+        assertEquals(goals, streams.getTopTeamsByGoalsCount(2));
+        assertEquals(List.copyOf(goals.keySet()), List.copyOf(streams.getTopTeamsByGoalsCount(2).keySet()));
+
+        Map<String, Double> rudest = new LinkedHashMap<>();
+        rudest.put("Реал", 5.0);
+        rudest.put("Барселона", 2.0);
+        rudest.put("Бавария", 0.5);
+        assertEquals(List.copyOf(rudest.entrySet()), List.copyOf(streams.getTopRudestTeams(5).entrySet()));
+    }
+}